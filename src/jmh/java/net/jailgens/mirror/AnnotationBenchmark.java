@@ -0,0 +1,119 @@
+package net.jailgens.mirror;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures converting an element's annotations into {@link AnnotationValues}, which happens for
+ * every reflected type, member and parameter, and reading values from them.
+ *
+ * @author Sparky983
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnnotationBenchmark {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Column {
+
+        String name();
+
+        int length() default 255;
+
+        boolean nullable() default true;
+
+        ElementType[] targets() default {};
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Indexed {
+
+        String value() default "";
+    }
+
+    @Column(name = "id", length = 36, nullable = false)
+    @Indexed("id_index")
+    public static class Annotated {
+
+    }
+
+    private static final AnnotationElement LENGTH = AnnotationElement.of(Column.class, "length");
+    private static final AnnotationElement NAME = AnnotationElement.of(Column.class, "name");
+
+    private AnnotationValues values;
+    private Column column;
+    private Column view;
+
+    @Setup
+    public void setup() {
+
+        values = Reflections.createAnnotationValues(Annotated.class);
+        column = Annotated.class.getAnnotation(Column.class);
+        view = values.as(Column.class);
+    }
+
+    @Benchmark
+    public AnnotationValues createAnnotationValues() {
+
+        return Reflections.createAnnotationValues(Annotated.class);
+    }
+
+    @Benchmark
+    public int getInt() {
+
+        return values.getInt(LENGTH).orElseThrow();
+    }
+
+    @Benchmark
+    public String getString() {
+
+        return values.getString(NAME).orElseThrow();
+    }
+
+    @Benchmark
+    public boolean hasAnnotation() {
+
+        return values.hasAnnotation(Indexed.class);
+    }
+
+    @Benchmark
+    public int annotationAccessor() {
+
+        return column.length();
+    }
+
+    @Benchmark
+    public int viewAccessor() {
+
+        return view.length();
+    }
+
+    @Benchmark
+    public Column as() {
+
+        return values.as(Column.class);
+    }
+
+    @Benchmark
+    public AnnotationElement annotationElement() {
+
+        return AnnotationElement.of(Column.class, "length");
+    }
+}
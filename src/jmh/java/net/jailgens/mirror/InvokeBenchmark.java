@@ -0,0 +1,163 @@
+package net.jailgens.mirror;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the varargs, fixed-arity and primitive invoke methods.
+ * <p>
+ * Run with {@code gradle jmh -PjmhArgs="InvokeBenchmark -prof gc"}; the fixed-arity benchmarks
+ * should report a {@code gc.alloc.rate.norm} of (about) zero bytes per operation.
+ *
+ * @author Sparky983
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvokeBenchmark {
+
+    public static final class Target {
+
+        private final String value;
+
+        public Target() {
+
+            this("value");
+        }
+
+        public Target(final String value) {
+
+            this.value = value;
+        }
+
+        public String get() {
+
+            return value;
+        }
+
+        public int hash() {
+
+            // outside of the Integer cache, so the boxed benchmarks actually box
+            return value.hashCode();
+        }
+
+        public String select(final String a, final String b) {
+
+            return a == value ? b : a;
+        }
+    }
+
+    private final Target target = new Target();
+    private final String a = "a";
+    private final String b = "b";
+
+    private Method<Target, String> get;
+    private Method<Target, Integer> hash;
+    private Method<Target, String> select;
+    private Constructor<Target> noArgsConstructor;
+    private Constructor<Target> constructor;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+
+        final TypeDefinition<Target> type = Mirror.builder().build().reflect(Target.class);
+
+        for (final Method<Target, ?> method : type.getMethods()) {
+            if (method.getName().equals("get")) {
+                get = (Method<Target, String>) method;
+            } else if (method.getName().equals("hash")) {
+                hash = (Method<Target, Integer>) method;
+            } else if (method.getName().equals("select")) {
+                select = (Method<Target, String>) method;
+            }
+        }
+
+        for (final Constructor<Target> constructor : type.getConstructors()) {
+            if (constructor.getParameters().isEmpty()) {
+                noArgsConstructor = constructor;
+            } else {
+                this.constructor = constructor;
+            }
+        }
+    }
+
+    @Benchmark
+    public String invoke() {
+
+        return get.invoke(target);
+    }
+
+    @Benchmark
+    public String invoke0() {
+
+        return get.invoke0(target);
+    }
+
+    @Benchmark
+    public int invokeBoxed() {
+
+        return hash.invoke0(target);
+    }
+
+    @Benchmark
+    public int invokeInt0() {
+
+        return hash.invokeInt0(target);
+    }
+
+    @Benchmark
+    public int invokeIntVarargs() {
+
+        return hash.invokeInt(target, new Object[0]);
+    }
+
+    @Benchmark
+    public String invokeTwoArguments() {
+
+        return select.invoke(target, a, b);
+    }
+
+    @Benchmark
+    public String invoke2() {
+
+        return select.invoke2(target, a, b);
+    }
+
+    @Benchmark
+    public Target construct() {
+
+        return noArgsConstructor.construct();
+    }
+
+    @Benchmark
+    public Target construct0() {
+
+        return noArgsConstructor.construct0();
+    }
+
+    @Benchmark
+    public Target constructOneArgument() {
+
+        return constructor.construct(a);
+    }
+
+    @Benchmark
+    public Target construct1() {
+
+        return constructor.construct1(a);
+    }
+}
@@ -0,0 +1,76 @@
+package net.jailgens.mirror;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the indexed {@link TypeDefinition#getMethod(String, Class[])} lookup against a linear
+ * scan of {@link TypeDefinition#getMethods()}.
+ * <p>
+ * {@link Arrays} is used because it declares over 200 methods, with many overloads of the same
+ * name.
+ *
+ * @author Sparky983
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+
+    private final Class<?>[] parameterTypes = {Object[].class, int.class, int.class};
+
+    private TypeDefinition<Arrays> type;
+
+    @Setup
+    public void setup() {
+
+        type = Mirror.builder().build().reflect(Arrays.class);
+        // build the index
+        type.getMethod("sort", parameterTypes);
+    }
+
+    @Benchmark
+    public Optional<Method<Arrays, ?>> indexed() {
+
+        return type.getMethod("sort", parameterTypes);
+    }
+
+    @Benchmark
+    public Optional<Method<Arrays, ?>> linear() {
+
+        return type.getMethods().stream()
+                .filter((method) -> method.getName().equals("sort"))
+                .filter((method) -> {
+                    final List<Parameter<?>> parameters = method.getParameters();
+
+                    if (parameters.size() != parameterTypes.length) {
+                        return false;
+                    }
+
+                    for (int i = 0; i < parameterTypes.length; i++) {
+                        if (parameters.get(i).getRawType() != parameterTypes[i]) {
+                            return false;
+                        }
+                    }
+
+                    return true;
+                })
+                .findFirst();
+    }
+}
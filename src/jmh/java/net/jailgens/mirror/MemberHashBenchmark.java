@@ -0,0 +1,91 @@
+package net.jailgens.mirror;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures members as {@link HashMap} keys, like in a dispatch table.
+ * <p>
+ * {@link #deepHashCode()} recomputes the hash code from the member's metadata, which is what
+ * {@link Object#hashCode()} used to do on every call. {@link #lookupEqualKey()} looks up an equal
+ * member reflected by another (non-caching) mirror, so the map has to fall back to
+ * {@link Object#equals(Object)}.
+ *
+ * @author Sparky983
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemberHashBenchmark {
+
+    private final Map<Method<?, ?>, Integer> dispatchTable = new HashMap<>();
+
+    private Method<Arrays, ?> method;
+    private Method<Arrays, ?> equalMethod;
+
+    @Setup
+    public void setup() {
+
+        final TypeDefinition<Arrays> type = Mirror.builder().build().reflect(Arrays.class);
+        int i = 0;
+
+        for (final Method<Arrays, ?> method : type.getMethods()) {
+            dispatchTable.put(method, i++);
+        }
+
+        final Class<?>[] parameterTypes = {Object[].class, int.class, int.class};
+        method = type.getMethod("sort", parameterTypes).orElseThrow();
+        equalMethod = Mirror.builder()
+                .cache(false)
+                .build()
+                .reflect(Arrays.class)
+                .getMethod("sort", parameterTypes)
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public int cachedHashCode() {
+
+        return method.hashCode();
+    }
+
+    @Benchmark
+    public int deepHashCode() {
+
+        return Objects.hash(method.getDeclaringType(),
+                method.getName(),
+                method.getAnnotations(),
+                method.getParameters(),
+                method.getType(),
+                method.getModifiers());
+    }
+
+    @Benchmark
+    public Integer lookup() {
+
+        return dispatchTable.get(method);
+    }
+
+    @Benchmark
+    public Integer lookupEqualKey() {
+
+        return dispatchTable.get(equalMethod);
+    }
+}
@@ -0,0 +1,69 @@
+package net.jailgens.mirror;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link Mirror#reflect(Class)} on cache hits and misses.
+ * <p>
+ * Run with different thread counts to see how it scales across cores, for example
+ * {@code gradle jmh -PjmhArgs="ReflectBenchmark -t 1"} and
+ * {@code gradle jmh -PjmhArgs="ReflectBenchmark -t 8"}. Cache hits are lock-free, so their
+ * throughput should scale linearly with the number of threads.
+ *
+ * @author Sparky983
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReflectBenchmark {
+
+    private static final Class<?>[] CLASSES = {
+            String.class,
+            Integer.class,
+            Object.class,
+            Thread.class,
+            ReflectBenchmark.class,
+            InvokeBenchmark.class,
+            InvokeBenchmark.Target.class,
+            Mirror.class
+    };
+
+    private final Mirror cachingMirror = Mirror.builder().build();
+    private final Mirror nonCachingMirror = Mirror.builder().cache(false).build();
+
+    @State(Scope.Thread)
+    public static class Index {
+
+        int next;
+
+        Class<?> next() {
+
+            return CLASSES[next++ & (CLASSES.length - 1)];
+        }
+    }
+
+    @Benchmark
+    public TypeDefinition<?> hit(final Index index) {
+
+        return cachingMirror.reflect(index.next());
+    }
+
+    @Benchmark
+    public TypeDefinition<?> miss(final Index index) {
+
+        return nonCachingMirror.reflect(index.next());
+    }
+}
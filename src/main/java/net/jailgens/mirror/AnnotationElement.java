@@ -1,6 +1,5 @@
 package net.jailgens.mirror;
 
-import org.checkerframework.checker.lock.qual.NewObject;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.dataflow.qual.Pure;
 import org.checkerframework.dataflow.qual.SideEffectFree;
@@ -10,6 +9,9 @@ import java.util.Objects;
 
 /**
  * Represents an annotation element (method).
+ * <p>
+ * Annotation elements created by the factories are interned, so equal elements are usually the
+ * same instance, and comparing them is an identity check.
  *
  * @author Sparky983
  * @since 0.0.0
@@ -24,19 +26,19 @@ public interface AnnotationElement {
     @NonNull String VALUE = "value";
 
     /**
-     * Creates a new annotation element with the specified annotation-type's type-name and name.
+     * Gets the annotation element with the specified annotation-type's type-name and name.
      *
      * @param annotationType the annotation-type's type-name.
      * @param name the name.
-     * @return the created annotation element.
+     * @return the annotation element.
      * @throws NullPointerException if {@code annotationType} or {@code name} are {@code null}.
      * @since 0.0.0
      */
     @SideEffectFree
-    static @NewObject @NonNull AnnotationElement of(final @NonNull String annotationType,
+    static @NonNull AnnotationElement of(final @NonNull String annotationType,
                                                     final @NonNull String name) {
 
-        return new AnnotationElementImpl(annotationType, name);
+        return AnnotationElementImpl.intern(new AnnotationElementImpl(annotationType, name));
     }
 
     /*
@@ -48,34 +50,34 @@ public interface AnnotationElement {
      */
 
     /**
-     * Creates a new annotation element with the specified annotation type and name.
+     * Gets the annotation element with the specified annotation type and name.
      *
      * @param annotationType the annotation type.
      * @param name the name.
-     * @return the created annotation element.
+     * @return the annotation element.
      * @throws NullPointerException if {@code annotationType} or {@code name} are {@code null}.
      * @since 0.0.0
      */
     @SideEffectFree
-    static @NewObject @NonNull AnnotationElement of(
+    static @NonNull AnnotationElement of(
             final @NonNull Class<? extends @NonNull Annotation> annotationType,
             final @NonNull String name) {
 
         Objects.requireNonNull(annotationType, "annotationType cannot be null");
-        return of(annotationType.getTypeName(), name);
+        return AnnotationElementImpl.of(annotationType, name);
     }
 
     /**
-     * Creates a new annotation element with the specified annotation type and name.
+     * Gets the annotation element with the specified annotation type and name.
      *
      * @param annotationType the annotation type.
      * @param name the name.
-     * @return the created annotation element.
+     * @return the annotation element.
      * @throws NullPointerException if {@code annotationType} or {@code name} are {@code null}.
      * @since 0.0.0
      */
     @SideEffectFree
-    static @NewObject @NonNull AnnotationElement of(
+    static @NonNull AnnotationElement of(
             final @NonNull ParameterizedType<? extends @NonNull Annotation> annotationType,
             final @NonNull String name) {
 
@@ -84,44 +86,44 @@ public interface AnnotationElement {
     }
 
     /**
-     * Creates a new annotation element named {@link #VALUE} with the specified annotation-type's type-name.
+     * Gets the annotation element named {@link #VALUE} with the specified annotation-type's type-name.
      *
      * @param annotationType the annotation-type's type-name.
-     * @return the created annotation element.
+     * @return the annotation element.
      * @throws NullPointerException if {@code annotationType} is {@code null}.
      * @since 0.0.0
      */
     @SideEffectFree
-    static @NewObject @NonNull AnnotationElement value(final @NonNull String annotationType) {
+    static @NonNull AnnotationElement value(final @NonNull String annotationType) {
 
         return of(annotationType, VALUE);
     }
 
     /**
-     * Creates a new annotation element with the specified annotation type and name.
+     * Gets the annotation element with the specified annotation type and name.
      *
      * @param annotationType the annotation type.
-     * @return the created annotation element.
+     * @return the annotation element.
      * @throws NullPointerException if {@code annotationType} is {@code null}.
      * @since 0.0.0
      */
     @SideEffectFree
-    static @NewObject @NonNull AnnotationElement value(
+    static @NonNull AnnotationElement value(
             final @NonNull Class<? extends @NonNull Annotation> annotationType) {
 
-        return value(annotationType.getTypeName());
+        return of(annotationType, VALUE);
     }
 
     /**
-     * Creates a new annotation element with the specified annotation type and name.
+     * Gets the annotation element with the specified annotation type and name.
      *
      * @param annotationType the annotation type.
-     * @return the created annotation element.
+     * @return the annotation element.
      * @throws NullPointerException if {@code annotationType} is {@code null}.
      * @since 0.0.0
      */
     @SideEffectFree
-    static @NewObject @NonNull AnnotationElement value(
+    static @NonNull AnnotationElement value(
             final @NonNull ParameterizedType<? extends @NonNull Annotation> annotationType) {
 
         return value(annotationType.getTypeName());
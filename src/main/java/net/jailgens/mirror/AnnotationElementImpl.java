@@ -4,17 +4,45 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.Pure;
 
+import java.lang.annotation.Annotation;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The default {@link AnnotationElement} implementation.
+ * <p>
+ * Elements created by the {@link AnnotationElement} factories, and the elements stored by
+ * {@link AnnotationValuesImpl} are {@linkplain #intern(AnnotationElement) interned}, so there is
+ * usually one instance per element, and hash codes are computed once, when the element is created.
+ * The elements of an annotation type are also cached by the annotation class (see
+ * {@link #of(Class, String)}), so getting them doesn't build or hash the type name.
  *
  * @author Sparky983
  */
 final class AnnotationElementImpl implements AnnotationElement {
 
+    private static final @NonNull Interner<@NonNull AnnotationElementImpl> INTERNER =
+            new Interner<>();
+    private static final @NonNull ClassValue<@NonNull Map<@NonNull String, @NonNull AnnotationElementImpl>>
+            ELEMENTS = new ClassValue<>() {
+                @Override
+                protected @NonNull Map<@NonNull String, @NonNull AnnotationElementImpl> computeValue(
+                        final @NonNull Class<?> cls) {
+
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     private final @NonNull String annotationType;
     private final @NonNull String name;
+    private final int hashCode;
+    /**
+     * Whether this is the canonical instance of this element. Set after this element is
+     * published, so other threads may not see it yet, which only means they fall back to
+     * comparing the strings.
+     */
+    private boolean canonical;
 
     @Pure
     AnnotationElementImpl(final @NonNull String annotationType, final @NonNull String name) {
@@ -24,6 +52,55 @@ final class AnnotationElementImpl implements AnnotationElement {
 
         this.annotationType = annotationType;
         this.name = name;
+        this.hashCode = Objects.hash(annotationType, name);
+    }
+
+    /**
+     * Gets the canonical instance of the specified element.
+     *
+     * @param element the element.
+     * @return the canonical instance.
+     */
+    static @NonNull AnnotationElementImpl intern(final @NonNull AnnotationElement element) {
+
+        if (element instanceof AnnotationElementImpl && ((AnnotationElementImpl) element).canonical) {
+            return (AnnotationElementImpl) element;
+        }
+
+        final AnnotationElementImpl impl;
+
+        if (element instanceof AnnotationElementImpl) {
+            impl = (AnnotationElementImpl) element;
+        } else {
+            impl = new AnnotationElementImpl(element.getAnnotationType(), element.getName());
+        }
+
+        final AnnotationElementImpl canonical = INTERNER.intern(impl);
+
+        if (canonical == impl) {
+            impl.canonical = true;
+        }
+
+        return canonical;
+    }
+
+    /**
+     * Gets the canonical element with the specified annotation type and name.
+     *
+     * @param annotationType the annotation type.
+     * @param name the name.
+     * @return the canonical element.
+     * @throws NullPointerException if {@code annotationType} or {@code name} are {@code null}.
+     */
+    static @NonNull AnnotationElementImpl of(
+            final @NonNull Class<? extends @NonNull Annotation> annotationType,
+            final @NonNull String name) {
+
+        Objects.requireNonNull(annotationType, "annotationType cannot be null");
+        Objects.requireNonNull(name, "name cannot be null");
+
+        return ELEMENTS.get(annotationType).computeIfAbsent(name,
+                (key) -> intern(new AnnotationElementImpl(annotationType.getTypeName(), key)));
     }
 
     @Override
@@ -45,7 +122,14 @@ final class AnnotationElementImpl implements AnnotationElement {
             return true;
         }
 
-        if (!(o instanceof AnnotationElement)) {
+        if (o instanceof AnnotationElementImpl) {
+            final AnnotationElementImpl that = (AnnotationElementImpl) o;
+
+            // there is only one canonical instance of each element
+            if (hashCode != that.hashCode || (canonical && that.canonical)) {
+                return false;
+            }
+        } else if (!(o instanceof AnnotationElement)) {
             return false;
         }
 
@@ -57,6 +141,6 @@ final class AnnotationElementImpl implements AnnotationElement {
     @Override
     public int hashCode() {
 
-        return Objects.hash(annotationType, name);
+        return hashCode;
     }
 }
@@ -0,0 +1,181 @@
+package net.jailgens.mirror;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+
+/**
+ * Converts instances of an annotation type into {@link AnnotationValues}.
+ * <p>
+ * An extractor is created once per annotation type (see {@link #of(Class)}). It holds a method
+ * handle per element, which reads the element from an annotation and writes it to a
+ * {@link AnnotationValues.Builder} with the {@code value} overload of the element's type, so
+ * extracting an annotation doesn't look up any methods, and primitive values aren't boxed.
+ * Nested annotations (and arrays of them) are converted to {@link AnnotationValues} with the
+ * extractor of their own type.
+ *
+ * @author Sparky983
+ */
+final class AnnotationExtractor {
+
+    private static final @NonNull ClassValue<@NonNull AnnotationExtractor> EXTRACTORS =
+            new ClassValue<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                protected @NonNull AnnotationExtractor computeValue(final @NonNull Class<?> cls) {
+
+                    return new AnnotationExtractor((Class<? extends Annotation>) cls);
+                }
+            };
+
+    private static final @NonNull MethodHandle TO_ANNOTATION_VALUES;
+    private static final @NonNull MethodHandle TO_ANNOTATION_VALUES_ARRAY;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        try {
+            TO_ANNOTATION_VALUES = lookup.findStatic(AnnotationExtractor.class,
+                    "toAnnotationValues",
+                    MethodType.methodType(AnnotationValues.class, Annotation.class));
+            TO_ANNOTATION_VALUES_ARRAY = lookup.findStatic(AnnotationExtractor.class,
+                    "toAnnotationValues",
+                    MethodType.methodType(AnnotationValues[].class, Annotation[].class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final @NonNull Class<? extends @NonNull Annotation> annotationType;
+    /**
+     * The {@code (Builder, Annotation)void} writers of the elements.
+     */
+    private final @NonNull MethodHandle @NonNull [] elementWriters;
+
+    private AnnotationExtractor(final @NonNull Class<? extends @NonNull Annotation> annotationType) {
+
+        this.annotationType = annotationType;
+
+        final java.lang.reflect.Method[] elements = annotationType.getDeclaredMethods();
+        final MethodHandles.Lookup lookup = Reflections.lookup(annotationType);
+        this.elementWriters = new MethodHandle[elements.length];
+
+        try {
+            for (int i = 0; i < elements.length; i++) {
+                elementWriters[i] = elementWriter(lookup, annotationType, elements[i]);
+            }
+        } catch (final ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Gets the extractor of the specified annotation type.
+     *
+     * @param annotationType the annotation type.
+     * @return the extractor.
+     */
+    static @NonNull AnnotationExtractor of(
+            final @NonNull Class<? extends @NonNull Annotation> annotationType) {
+
+        Objects.requireNonNull(annotationType, "annotationType cannot be null");
+
+        return EXTRACTORS.get(annotationType);
+    }
+
+    /**
+     * Writes the specified annotation and its values to the specified builder.
+     *
+     * @param annotation the annotation, which must be an instance of this extractor's type.
+     * @param builder the builder.
+     */
+    void extract(final @NonNull Annotation annotation,
+                 final AnnotationValues.@NonNull Builder builder) {
+
+        builder.annotate(annotationType);
+
+        try {
+            for (final MethodHandle elementWriter : elementWriters) {
+                elementWriter.invokeExact(builder, annotation);
+            }
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static @NonNull AnnotationValues toAnnotationValues(
+            final @NonNull Annotation annotation) {
+
+        final AnnotationValues.Builder builder = AnnotationValues.builder();
+        of(annotation.annotationType()).extract(annotation, builder);
+        return builder.build();
+    }
+
+    private static @NonNull AnnotationValues @NonNull [] toAnnotationValues(
+            final @NonNull Annotation @NonNull [] annotations) {
+
+        final AnnotationValues[] values = new AnnotationValues[annotations.length];
+
+        for (int i = 0; i < annotations.length; i++) {
+            values[i] = toAnnotationValues(annotations[i]);
+        }
+
+        return values;
+    }
+
+    /**
+     * Creates a {@code (Builder, Annotation)void} handle that reads the specified element and
+     * writes it to the builder.
+     */
+    private static @NonNull MethodHandle elementWriter(
+            final MethodHandles.@NonNull Lookup lookup,
+            final @NonNull Class<? extends @NonNull Annotation> annotationType,
+            final java.lang.reflect.@NonNull Method element) throws ReflectiveOperationException {
+
+        final Class<?> returnType = element.getReturnType();
+        MethodHandle accessor = lookup.unreflect(element);
+        final Class<?> valueType;
+
+        if (returnType.isAnnotation()) {
+            accessor = MethodHandles.filterReturnValue(
+                    accessor.asType(accessor.type().changeReturnType(Annotation.class)),
+                    TO_ANNOTATION_VALUES);
+            valueType = AnnotationValues.class;
+        } else if (returnType.isArray() && returnType.getComponentType().isAnnotation()) {
+            accessor = MethodHandles.filterReturnValue(
+                    accessor.asType(accessor.type().changeReturnType(Annotation[].class)),
+                    TO_ANNOTATION_VALUES_ARRAY);
+            valueType = AnnotationValues[].class;
+        } else if (returnType.isEnum()) {
+            valueType = Enum.class;
+        } else if (returnType.isArray() && returnType.getComponentType().isEnum()) {
+            valueType = Enum[].class;
+        } else {
+            valueType = returnType;
+        }
+
+        // (Builder, AnnotationElement, valueType)Builder
+        final MethodHandle writer = MethodHandles.publicLookup().findVirtual(
+                AnnotationValues.Builder.class,
+                "value",
+                MethodType.methodType(AnnotationValues.Builder.class,
+                        AnnotationElement.class,
+                        valueType));
+
+        return MethodHandles.filterArguments(
+                        MethodHandles.insertArguments(writer,
+                                1,
+                                AnnotationElement.of(annotationType, element.getName())),
+                        1,
+                        accessor.asType(MethodType.methodType(valueType, Annotation.class)))
+                .asType(MethodType.methodType(void.class,
+                        AnnotationValues.Builder.class,
+                        Annotation.class));
+    }
+}
@@ -0,0 +1,242 @@
+package net.jailgens.mirror;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A concurrent index of reflected types, their members and the parameters of their constructors
+ * and methods by the annotations they are annotated with.
+ * <p>
+ * Reflected types are only queued when they are {@linkplain #add(TypeDefinition) added}, and
+ * indexed when the index is next {@linkplain #find(Class) queried}, so reflecting a type doesn't
+ * materialize its members unless the index is actually used.
+ * <p>
+ * The index is keyed by annotation type name, and only weakly references the type definitions,
+ * so it never keeps a class, its annotation types or their class loaders alive. Entries of
+ * collected type definitions are removed the next time a type is added or the index is queried.
+ * Annotation types of different class loaders may have the same name, so the name only narrows
+ * down the indexed types, and their annotated elements are then looked up by the annotation type
+ * itself (by {@code Class} identity).
+ *
+ * @author Sparky983
+ */
+final class AnnotationIndex {
+
+    private final @NonNull Queue<@NonNull IndexedType> pending = new ConcurrentLinkedQueue<>();
+    private final @NonNull Map<@NonNull String, @NonNull Set<@NonNull IndexedType>> index =
+            new ConcurrentHashMap<>();
+    private final @NonNull ReferenceQueue<@NonNull TypeDefinition<?>> collected =
+            new ReferenceQueue<>();
+    /**
+     * Held while the pending types are indexed.
+     */
+    private final @NonNull Object lock = new Object();
+
+    /**
+     * Adds the specified type definition to the index.
+     *
+     * @param typeDefinition the type definition.
+     */
+    void add(final @NonNull TypeDefinition<?> typeDefinition) {
+
+        Objects.requireNonNull(typeDefinition, "typeDefinition cannot be null");
+
+        final Reference<? extends TypeDefinition<?>> reference = collected.poll();
+
+        // the index may never be queried, so the collected type definitions (e.g. evicted by the
+        // cache) are also removed here, to keep the pending queue bounded
+        if (reference != null) {
+            synchronized (lock) {
+                expungeCollected(reference);
+            }
+        }
+
+        pending.add(new IndexedType(typeDefinition, collected));
+    }
+
+    /**
+     * Gets the number of type definitions that are waiting to be indexed.
+     *
+     * @return the number of pending type definitions.
+     */
+    int pendingCount() {
+
+        return pending.size();
+    }
+
+    /**
+     * Finds all indexed types, members and parameters annotated with the specified annotation
+     * type.
+     *
+     * @param annotationType the annotation type.
+     * @return the annotated types, members and parameters.
+     */
+    @NonNull Collection<@NonNull Annotated> find(
+            final @NonNull Class<? extends @NonNull Annotation> annotationType) {
+
+        Objects.requireNonNull(annotationType, "annotationType cannot be null");
+
+        synchronized (lock) {
+            expungeCollected(collected.poll());
+            indexPending();
+        }
+
+        final Set<IndexedType> indexedTypes = index.get(annotationType.getName());
+
+        if (indexedTypes == null) {
+            return List.of();
+        }
+
+        final List<Annotated> annotated = new ArrayList<>();
+        // a class may have been reflected more than once (e.g. after it was invalidated)
+        final Set<Class<?>> classes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (final IndexedType indexedType : indexedTypes) {
+            final TypeDefinition<?> typeDefinition = indexedType.get();
+
+            if (typeDefinition == null || !classes.add(typeDefinition.getRawType())) {
+                continue;
+            }
+
+            // the annotation type name may belong to a different class with the same name, so
+            // the elements are looked up by the class itself
+            if (typeDefinition.getRawAnnotation(annotationType) != null) {
+                annotated.add(typeDefinition);
+            }
+
+            for (final Member<?> member : typeDefinition.getMembersAnnotatedWith(annotationType)) {
+                annotated.add((Annotated) member);
+            }
+
+            annotated.addAll(typeDefinition.getParametersAnnotatedWith(annotationType));
+        }
+
+        return Collections.unmodifiableList(annotated);
+    }
+
+    /**
+     * Removes the type definitions of classes loaded by the specified class loader or one of its
+     * descendants.
+     *
+     * @param classLoader the class loader.
+     */
+    void invalidate(final @NonNull ClassLoader classLoader) {
+
+        synchronized (lock) {
+            indexPending();
+
+            for (final Set<IndexedType> indexedTypes : index.values()) {
+                indexedTypes.removeIf((indexedType) -> {
+                    final TypeDefinition<?> typeDefinition = indexedType.get();
+
+                    return typeDefinition == null || Reflections.isSameOrDescendant(
+                            typeDefinition.getRawType().getClassLoader(),
+                            classLoader);
+                });
+            }
+
+            index.values().removeIf(Set::isEmpty);
+        }
+    }
+
+    private void indexPending() {
+
+        IndexedType indexedType;
+
+        while ((indexedType = pending.poll()) != null) {
+            final TypeDefinition<?> typeDefinition = indexedType.get();
+
+            if (typeDefinition == null) {
+                continue;
+            }
+
+            for (final String annotationTypeName : annotationTypeNames(typeDefinition)) {
+                index.computeIfAbsent(annotationTypeName, (name) -> ConcurrentHashMap.newKeySet())
+                        .add(indexedType);
+            }
+        }
+    }
+
+    /**
+     * Removes the collected type definitions, starting with the specified reference polled from
+     * the reference queue.
+     */
+    private void expungeCollected(
+            final @Nullable Reference<? extends TypeDefinition<?>> firstReference) {
+
+        if (firstReference == null) {
+            return;
+        }
+
+        Reference<? extends TypeDefinition<?>> reference = firstReference;
+        boolean expunged = false;
+
+        do {
+            for (final Set<IndexedType> indexedTypes : index.values()) {
+                // WeakReference uses identity equality
+                expunged |= indexedTypes.remove(reference);
+            }
+        } while ((reference = collected.poll()) != null);
+
+        if (expunged) {
+            index.values().removeIf(Set::isEmpty);
+        }
+
+        pending.removeIf((indexedType) -> indexedType.get() == null);
+    }
+
+    private static @NonNull Set<@NonNull String> annotationTypeNames(
+            final @NonNull TypeDefinition<?> typeDefinition) {
+
+        final Set<String> names = new HashSet<>();
+
+        for (final Annotation annotation : typeDefinition.getRawAnnotations()) {
+            names.add(annotation.annotationType().getName());
+        }
+
+        for (final Member<?> member : typeDefinition.getMembers()) {
+            for (final Annotation annotation : ((Annotated) member).getRawAnnotations()) {
+                names.add(annotation.annotationType().getName());
+            }
+
+            if (member instanceof Invokable) {
+                for (final Parameter<?> parameter : ((Invokable<?, ?>) member).getParameters()) {
+                    for (final Annotation annotation : parameter.getRawAnnotations()) {
+                        names.add(annotation.annotationType().getName());
+                    }
+                }
+            }
+        }
+
+        return names;
+    }
+
+    /**
+     * A weakly referenced, indexed type definition.
+     */
+    private static final class IndexedType extends WeakReference<@NonNull TypeDefinition<?>> {
+
+        IndexedType(final @NonNull TypeDefinition<?> typeDefinition,
+                    final @NonNull ReferenceQueue<@NonNull TypeDefinition<?>> queue) {
+
+            super(typeDefinition, queue);
+        }
+    }
+}
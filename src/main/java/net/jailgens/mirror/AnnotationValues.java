@@ -9,6 +9,7 @@ import org.checkerframework.dataflow.qual.SideEffectFree;
 
 import java.lang.annotation.Annotation;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
@@ -440,6 +441,37 @@ public interface AnnotationValues {
     @SideEffectFree
     @NonNull List<@NonNull Class<? extends @NonNull Object>> getClasses(@NonNull AnnotationElement annotationElement);
 
+    /**
+     * Gets the annotation of the specified type as an instance of the annotation type, whose
+     * elements return the values of these annotation values.
+     * <p>
+     * Elements without a value return their default value, or throw an
+     * {@link java.lang.annotation.IncompleteAnnotationException} if they have no default value.
+     * The annotation implements {@link Annotation#equals(Object)} and
+     * {@link Annotation#hashCode()} as specified, so it is equal to the JDK's instances of the
+     * same annotation.
+     * <p>
+     * The default implementation creates a new annotation on each call, but
+     * {@link AnnotationValues#builder() built} annotation values create it once per annotation
+     * type.
+     *
+     * @param annotationType the annotation type.
+     * @param <A> the annotation type.
+     * @return the annotation.
+     * @throws ClassCastException if a value is not of its element's type.
+     * @throws IllegalArgumentException if {@code annotationType} is not an annotation type, or
+     * the annotation is not present.
+     * @throws NullPointerException if {@code annotationType} is {@code null}.
+     * @since 0.5.0
+     */
+    default <A extends @NonNull Annotation> @NonNull A as(
+            final @NonNull Class<@NonNull A> annotationType) {
+
+        Objects.requireNonNull(annotationType, "annotationType cannot be null");
+
+        return AnnotationView.create(this, annotationType);
+    }
+
     /**
      * A {@link AnnotationValues} builder.
      *
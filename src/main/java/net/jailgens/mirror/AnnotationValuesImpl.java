@@ -6,9 +6,10 @@ import org.checkerframework.common.returnsreceiver.qual.This;
 import org.checkerframework.dataflow.qual.Pure;
 
 import java.lang.annotation.Annotation;
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.lang.reflect.Array;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -17,18 +18,30 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The default {@link AnnotationElement} implementation.
  * <p>
- * The annotation elements and values are internally represented by a hash map for maximum
- * efficiency. A hash set used to store all annotations.
+ * The annotations and elements are stored in flat arrays, in the order they were added. The
+ * elements are {@linkplain AnnotationElementImpl#intern(AnnotationElement) interned}, and each has
+ * its value at the same index of {@link #values}, or, if the value is of a primitive type, of
+ * {@link #primitives}, so primitive values are never boxed. Elements are looked up by a linear
+ * scan that compares cached hash codes, or through an open-addressing {@link #table} if there are
+ * too many elements to scan. Annotation types that were added as classes are remembered, so
+ * {@link #hasAnnotation(Class)} can usually compare classes by identity instead of their names.
  *
  * @author Sparky983
  */
 final class AnnotationValuesImpl implements AnnotationValues {
 
-    public static final AnnotationValues EMPTY = new AnnotationValuesImpl(Set.of(), Map.of());
+    private static final @NonNull String @NonNull [] NO_ANNOTATIONS = new String[0];
+    private static final @NonNull AnnotationElementImpl @NonNull [] NO_ELEMENTS =
+            new AnnotationElementImpl[0];
+    private static final @Nullable Object @NonNull [] NO_VALUES = new Object[0];
+
+    public static final AnnotationValues EMPTY =
+            new AnnotationValuesImpl(NO_ANNOTATIONS, null, NO_ELEMENTS, NO_VALUES, null, null);
 
     private static final Mirror DEFAULT_MIRROR = Mirror.builder().build();
 
@@ -41,15 +54,228 @@ final class AnnotationValuesImpl implements AnnotationValues {
     private static final boolean[] EMPTY_BOOLEANS = new boolean[0];
     private static final char[] EMPTY_CHARS = new char[0];
 
-    private final @NonNull Set<@NonNull String> annotations;
-    private final @NonNull Map<@NonNull AnnotationElement, @NonNull Object> values;
+    /*
+    The kinds of values. Floats and doubles are stored as the bits returned by
+    Float.floatToIntBits(float) and Double.doubleToLongBits(double), so comparing the bits is the
+    same as comparing the boxed values with equals.
+     */
+    private static final byte OBJECT = 0;
+    private static final byte INT = 1;
+    private static final byte BYTE = 2;
+    private static final byte SHORT = 3;
+    private static final byte LONG = 4;
+    private static final byte FLOAT = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte BOOLEAN = 7;
+    private static final byte CHAR = 8;
+
+    /**
+     * The maximum number of elements that are looked up by a linear scan.
+     */
+    private static final int MAX_SCANNED_ELEMENTS = 8;
+
+    private final @NonNull String @NonNull [] annotations;
+    /**
+     * The classes of the annotation types, if they are known, or {@code null} if no classes are
+     * known.
+     */
+    private final @Nullable Class<?> @Nullable [] annotationClasses;
+    private final @NonNull AnnotationElementImpl @NonNull [] elements;
+    /**
+     * The values of the elements, or {@code null} if the value is stored in {@link #primitives}.
+     */
+    private final @Nullable Object @NonNull [] values;
+    /**
+     * The kinds of the values, or {@code null} if all values are objects.
+     */
+    private final byte @Nullable [] kinds;
+    /**
+     * The primitive values, or {@code null} if all values are objects.
+     */
+    private final long @Nullable [] primitives;
+    /**
+     * The indexes (plus one) of the elements by their hash code, or {@code null} if the elements
+     * are scanned.
+     */
+    private final int @Nullable [] table;
+    private final int hashCode;
+    /**
+     * The annotations created by {@link #as(Class)} by their type, or {@code null} if none were
+     * created yet.
+     */
+    private volatile @Nullable Map<@NonNull Class<?>, @NonNull Annotation> views;
 
     @Pure
-    AnnotationValuesImpl(final @NonNull Set<@NonNull String> annotations,
-                         final @NonNull Map<@NonNull AnnotationElement, @NonNull Object> values) {
+    private AnnotationValuesImpl(final @NonNull String @NonNull [] annotations,
+                                 final @Nullable Class<?> @Nullable [] annotationClasses,
+                                 final @NonNull AnnotationElementImpl @NonNull [] elements,
+                                 final @Nullable Object @NonNull [] values,
+                                 final byte @Nullable [] kinds,
+                                 final long @Nullable [] primitives) {
+
+        this.annotations = annotations;
+        this.annotationClasses = annotationClasses;
+        this.elements = elements;
+        this.values = values;
+        this.kinds = kinds;
+        this.primitives = primitives;
+        this.table = elements.length > MAX_SCANNED_ELEMENTS ? createTable(elements) : null;
+
+        // the same as Objects.hash(annotationSet, elementToValueMap), except that arrays are
+        // hashed by their contents
+        int annotationsHashCode = 0;
+        for (final String annotation : annotations) {
+            annotationsHashCode += annotation.hashCode();
+        }
+
+        int valuesHashCode = 0;
+        for (int i = 0; i < elements.length; i++) {
+            valuesHashCode += elements[i].hashCode() ^ valueHashCode(box(i));
+        }
+
+        this.hashCode = 31 * (31 + annotationsHashCode) + valuesHashCode;
+    }
+
+    private static int @NonNull [] createTable(
+            final @NonNull AnnotationElementImpl @NonNull [] elements) {
+
+        final int[] table = new int[Integer.highestOneBit(elements.length) << 2];
+        final int mask = table.length - 1;
+
+        for (int i = 0; i < elements.length; i++) {
+            int slot = spread(elements[i].hashCode()) & mask;
+
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+
+            table[slot] = i + 1;
+        }
+
+        return table;
+    }
+
+    private static int valueHashCode(final @NonNull Object value) {
+
+        if (value.getClass().isArray()) {
+            return Arrays.deepHashCode(new Object[] {value});
+        }
+
+        return value.hashCode();
+    }
+
+    private static int spread(final int hash) {
+
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(final @NonNull AnnotationElementImpl element,
+                                   final @NonNull AnnotationElement annotationElement,
+                                   final int hash) {
+
+        return element == annotationElement ||
+                (element.hashCode() == hash && element.equals(annotationElement));
+    }
+
+    /**
+     * Gets the index of the specified element.
+     *
+     * @param annotationElement the element.
+     * @return the index, or {@code -1} if there is no such element.
+     */
+    private int indexOf(final @NonNull AnnotationElement annotationElement) {
+
+        Objects.requireNonNull(annotationElement, "annotationElement cannot be null");
+
+        final int hash = annotationElement.hashCode();
+
+        if (table == null) {
+            for (int i = 0; i < elements.length; i++) {
+                if (matches(elements[i], annotationElement, hash)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        final int mask = table.length - 1;
+
+        for (int slot = spread(hash) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            final int index = table[slot] - 1;
+
+            if (matches(elements[index], annotationElement, hash)) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    private byte kind(final int index) {
+
+        return kinds == null ? OBJECT : kinds[index];
+    }
+
+    private @NonNull Object box(final int index) {
+
+        final long primitive = primitives == null ? 0 : primitives[index];
+
+        switch (kind(index)) {
+            case INT:
+                return (int) primitive;
+            case BYTE:
+                return (byte) primitive;
+            case SHORT:
+                return (short) primitive;
+            case LONG:
+                return primitive;
+            case FLOAT:
+                return Float.intBitsToFloat((int) primitive);
+            case DOUBLE:
+                return Double.longBitsToDouble(primitive);
+            case BOOLEAN:
+                return primitive != 0;
+            case CHAR:
+                return (char) primitive;
+            default:
+                assert values[index] != null;
+                return values[index];
+        }
+    }
+
+    /**
+     * Gets the primitive value at the specified index.
+     *
+     * @throws ClassCastException if the value is not of the specified kind.
+     */
+    private long getPrimitive(final int index, final byte kind, final @NonNull Class<?> type) {
+
+        if (kind(index) != kind) {
+            throw new ClassCastException("Cannot cast " + box(index).getClass().getName() +
+                    " to " + type.getName());
+        }
+
+        assert primitives != null;
+        return primitives[index];
+    }
+
+    private boolean valueEquals(final int index,
+                                final @NonNull AnnotationValuesImpl that,
+                                final int thatIndex) {
 
-        this.annotations = Collections.unmodifiableSet(new LinkedHashSet<>(annotations));
-        this.values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+        final byte kind = kind(index);
+
+        if (kind != that.kind(thatIndex)) {
+            return false;
+        }
+
+        if (kind == OBJECT) {
+            return Objects.deepEquals(values[index], that.values[thatIndex]);
+        }
+
+        assert primitives != null && that.primitives != null;
+        return primitives[index] == that.primitives[thatIndex];
     }
 
     @Override
@@ -65,14 +291,33 @@ final class AnnotationValuesImpl implements AnnotationValues {
 
         final AnnotationValuesImpl that = (AnnotationValuesImpl) o;
 
-        return annotations.equals(that.annotations) &&
-                values.equals(that.values);
+        if (hashCode != that.hashCode ||
+                annotations.length != that.annotations.length ||
+                elements.length != that.elements.length) {
+            return false;
+        }
+
+        for (final String annotation : annotations) {
+            if (!that.hasAnnotation(annotation)) {
+                return false;
+            }
+        }
+
+        for (int i = 0; i < elements.length; i++) {
+            final int thatIndex = that.indexOf(elements[i]);
+
+            if (thatIndex == -1 || !valueEquals(i, that, thatIndex)) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     @Override
     public int hashCode() {
 
-        return Objects.hash(annotations, values);
+        return hashCode;
     }
 
     @Override
@@ -80,44 +325,28 @@ final class AnnotationValuesImpl implements AnnotationValues {
 
         final StringBuilder builder = new StringBuilder();
 
-        final Map<String, Map<String, Object>> annotations = new LinkedHashMap<>();
-
-        for (final String annotation : getAnnotationTypes()) {
-            annotations.put(annotation, new LinkedHashMap<>());
-        }
-
-        for (final Map.Entry<AnnotationElement, Object> entry : values.entrySet()) {
-            final AnnotationElement annotationElement = entry.getKey();
-            final String annotationType = annotationElement.getAnnotationType();
-            final String name = annotationElement.getName();
-
-            final Object value = entry.getValue();
-
-            annotations.get(annotationType).put(name, value);
-        }
-
-        for (final Map.Entry<String, Map<String, Object>> entry : annotations.entrySet()) {
-            final String annotationType = entry.getKey();
-            final Map<String, Object> values = entry.getValue();
-
+        for (final String annotation : annotations) {
             builder.append('@')
-                    .append(annotationType)
+                    .append(annotation)
                     .append('(');
 
-            int i = 1;
-            for (final Map.Entry<String, Object> valueEntry : values.entrySet()) {
-                final String elementName = valueEntry.getKey();
-                final Object elementValue = valueEntry.getValue();
+            boolean first = true;
+            for (int i = 0; i < elements.length; i++) {
+                final AnnotationElement element = elements[i];
 
-                builder.append(elementName)
-                        .append('=')
-                        .append(elementValue);
+                if (!element.getAnnotationType().equals(annotation)) {
+                    continue;
+                }
 
-                if (i != values.size()) {
+                if (!first) {
                     builder.append(',');
                 }
 
-                i++;
+                builder.append(element.getName())
+                        .append('=')
+                        .append(box(i));
+
+                first = false;
             }
 
             builder.append(')');
@@ -129,13 +358,28 @@ final class AnnotationValuesImpl implements AnnotationValues {
     @Override
     public boolean hasAnnotation(final @Nullable String annotationType) {
 
-        return annotations.contains(annotationType);
+        for (final String annotation : annotations) {
+            if (annotation.equals(annotationType)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     @Override
     public boolean hasAnnotation(
             final @NonNull Class<? extends @NonNull Annotation> annotationType) {
 
+        if (annotationClasses != null) {
+            for (final Class<?> annotationClass : annotationClasses) {
+                if (annotationClass == annotationType) {
+                    return true;
+                }
+            }
+        }
+
+        // the annotation type may have been added by name, or be another class with the same name
         return hasAnnotation(annotationType.getTypeName());
     }
 
@@ -149,34 +393,75 @@ final class AnnotationValuesImpl implements AnnotationValues {
     @Override
     public boolean hasElement(final @NonNull AnnotationElement annotationElement) {
 
-        return values.containsKey(annotationElement);
+        return indexOf(annotationElement) != -1;
     }
 
     @Override
     public @NonNull Set<@NonNull AnnotationElement> getElements() {
 
-        return values.keySet();
+        return new ArraySet<>(elements);
     }
 
     @Override
     public @NonNull Set<@NonNull String> getAnnotationTypes() {
 
-        return annotations;
+        return new ArraySet<>(annotations);
+    }
+
+    @Override
+    public <A extends @NonNull Annotation> @NonNull A as(
+            final @NonNull Class<@NonNull A> annotationType) {
+
+        Objects.requireNonNull(annotationType, "annotationType cannot be null");
+
+        Map<Class<?>, Annotation> views = this.views;
+
+        if (views == null) {
+            // racing threads may each create a map, so an annotation may be created twice, which
+            // is harmless since the annotations are equal
+            views = new ConcurrentHashMap<>();
+            this.views = views;
+        }
+
+        return annotationType.cast(views.computeIfAbsent(annotationType,
+                (type) -> AnnotationView.create(this, annotationType)));
     }
 
     @Override
     public @NonNull Optional<@NonNull Object> getBoxed(
             final @NonNull AnnotationElement annotationElement) {
 
-        return Optional.ofNullable(getObject(annotationElement));
+        final Object value = getObject(annotationElement);
+
+        if (value != null && value.getClass().isArray()) {
+            return Optional.of(copyArray(value));
+        }
+
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * Copies the specified primitive array, so that the stored array cannot be changed.
+     */
+    private static @NonNull Object copyArray(final @NonNull Object array) {
+
+        final int length = Array.getLength(array);
+        final Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
     }
 
     @SuppressWarnings("unchecked")
     private <T extends @NonNull Object> @Nullable T getObject(
             final @NonNull AnnotationElement annotationElement) {
 
-        Objects.requireNonNull(annotationElement, "annotationElement cannot be null");
-        return (T) values.get(annotationElement);
+        final int index = indexOf(annotationElement);
+
+        if (index == -1) {
+            return null;
+        }
+
+        return (T) box(index);
     }
 
     private <T extends @NonNull Object> @NonNull T getObjectOrDefault(
@@ -197,67 +482,98 @@ final class AnnotationValuesImpl implements AnnotationValues {
     @Override
     public @NonNull OptionalInt getInt(final @NonNull AnnotationElement annotationElement) {
 
-        final Integer value = getObject(annotationElement);
+        final int index = indexOf(annotationElement);
 
-        if (value == null) {
+        if (index == -1) {
             return OptionalInt.empty();
         } else {
-            return OptionalInt.of(value);
+            return OptionalInt.of((int) getPrimitive(index, INT, Integer.class));
         }
     }
 
     @Override
     public @NonNull Optional<@NonNull Byte> getByte(final @NonNull AnnotationElement annotationElement) {
 
-        return Optional.ofNullable(getObject(annotationElement));
+        final int index = indexOf(annotationElement);
+
+        if (index == -1) {
+            return Optional.empty();
+        } else {
+            return Optional.of((byte) getPrimitive(index, BYTE, Byte.class));
+        }
     }
 
     @Override
     public @NonNull Optional<@NonNull Short> getShort(final @NonNull AnnotationElement annotationElement) {
 
-        return Optional.ofNullable(getObject(annotationElement));
+        final int index = indexOf(annotationElement);
+
+        if (index == -1) {
+            return Optional.empty();
+        } else {
+            return Optional.of((short) getPrimitive(index, SHORT, Short.class));
+        }
     }
 
     @Override
     public @NonNull OptionalLong getLong(final @NonNull AnnotationElement annotationElement) {
 
-        final Long value = getObject(annotationElement);
+        final int index = indexOf(annotationElement);
 
-        if (value == null) {
+        if (index == -1) {
             return OptionalLong.empty();
         } else {
-            return OptionalLong.of(value);
+            return OptionalLong.of(getPrimitive(index, LONG, Long.class));
         }
     }
 
     @Override
     public @NonNull Optional<@NonNull Float> getFloat(final @NonNull AnnotationElement annotationElement) {
 
-        return Optional.ofNullable(getObject(annotationElement));
+        final int index = indexOf(annotationElement);
+
+        if (index == -1) {
+            return Optional.empty();
+        } else {
+            return Optional.of(Float.intBitsToFloat((int) getPrimitive(index, FLOAT, Float.class)));
+        }
     }
 
     @Override
     public @NonNull OptionalDouble getDouble(final @NonNull AnnotationElement annotationElement) {
 
-        final Double value = getObject(annotationElement);
+        final int index = indexOf(annotationElement);
 
-        if (value == null) {
+        if (index == -1) {
             return OptionalDouble.empty();
         } else {
-            return OptionalDouble.of(value);
+            return OptionalDouble.of(
+                    Double.longBitsToDouble(getPrimitive(index, DOUBLE, Double.class)));
         }
     }
 
     @Override
     public @NonNull Optional<@NonNull Boolean> getBoolean(final @NonNull AnnotationElement annotationElement) {
 
-        return Optional.ofNullable(getObject(annotationElement));
+        final int index = indexOf(annotationElement);
+
+        if (index == -1) {
+            return Optional.empty();
+        } else {
+            return Optional.of(getPrimitive(index, BOOLEAN, Boolean.class) != 0);
+        }
     }
 
     @Override
     public @NonNull Optional<@NonNull Character> getChar(final @NonNull AnnotationElement annotationElement) {
 
-        return Optional.ofNullable(getObject(annotationElement));
+        final int index = indexOf(annotationElement);
+
+        if (index == -1) {
+            return Optional.empty();
+        } else {
+            return Optional.of((char) getPrimitive(index, CHAR, Character.class));
+        }
     }
 
     @Override
@@ -291,49 +607,50 @@ final class AnnotationValuesImpl implements AnnotationValues {
     @Override
     public int @NonNull [] getInts(final @NonNull AnnotationElement annotationElement) {
 
-        return getObjectOrDefault(annotationElement, EMPTY_INTS);
+        // values may be shared by many members, so their arrays must not be modified
+        return getObjectOrDefault(annotationElement, EMPTY_INTS).clone();
     }
 
     @Override
     public byte @NonNull [] getBytes(final @NonNull AnnotationElement annotationElement) {
 
-        return getObjectOrDefault(annotationElement, EMPTY_BYTES);
+        return getObjectOrDefault(annotationElement, EMPTY_BYTES).clone();
     }
 
     @Override
     public short @NonNull [] getShorts(final @NonNull AnnotationElement annotationElement) {
 
-        return getObjectOrDefault(annotationElement, EMPTY_SHORTS);
+        return getObjectOrDefault(annotationElement, EMPTY_SHORTS).clone();
     }
 
     @Override
     public long @NonNull [] getLongs(final @NonNull AnnotationElement annotationElement) {
 
-        return getObjectOrDefault(annotationElement, EMPTY_LONGS);
+        return getObjectOrDefault(annotationElement, EMPTY_LONGS).clone();
     }
 
     @Override
     public float @NonNull [] getFloats(final @NonNull AnnotationElement annotationElement) {
 
-        return getObjectOrDefault(annotationElement, EMPTY_FLOATS);
+        return getObjectOrDefault(annotationElement, EMPTY_FLOATS).clone();
     }
 
     @Override
     public double @NonNull [] getDoubles(final @NonNull AnnotationElement annotationElement) {
 
-        return getObjectOrDefault(annotationElement, EMPTY_DOUBLES);
+        return getObjectOrDefault(annotationElement, EMPTY_DOUBLES).clone();
     }
 
     @Override
     public boolean @NonNull [] getBooleans(final @NonNull AnnotationElement annotationElement) {
 
-        return getObjectOrDefault(annotationElement, EMPTY_BOOLEANS);
+        return getObjectOrDefault(annotationElement, EMPTY_BOOLEANS).clone();
     }
 
     @Override
     public char @NonNull [] getChars(final @NonNull AnnotationElement annotationElement) {
 
-        return getObjectOrDefault(annotationElement, EMPTY_CHARS);
+        return getObjectOrDefault(annotationElement, EMPTY_CHARS).clone();
     }
 
     @Override
@@ -361,17 +678,28 @@ final class AnnotationValuesImpl implements AnnotationValues {
         return getObjectOrDefault(annotationElement, List.of());
     }
 
+    /**
+     * Builds annotation values into growable arrays.
+     * <p>
+     * Primitive arrays are copied when they are added, because the built values compute their
+     * hash code once, and must not change if the caller later changes the array.
+     */
     static final class BuilderImpl implements Builder {
 
-        private final @NonNull Set<@NonNull String> annotations = new LinkedHashSet<>();
-        private final @NonNull Map<@NonNull AnnotationElement, @NonNull Object> values =
-                new LinkedHashMap<>();
+        private @NonNull String @NonNull [] annotations = new String[2];
+        private @Nullable Class<?> @Nullable [] annotationClasses;
+        private int annotationCount;
+        private @NonNull AnnotationElement @NonNull [] elements = new AnnotationElement[4];
+        private @Nullable Object @NonNull [] values = new Object[4];
+        private byte @Nullable [] kinds;
+        private long @Nullable [] primitives;
+        private int elementCount;
 
         @Override
         public @NonNull @This Builder annotate(final @Nullable String annotationType) {
 
             Objects.requireNonNull(annotationType, "annotationType cannot be null");
-            annotations.add(annotationType);
+            addAnnotation(annotationType);
             return this;
         }
 
@@ -380,7 +708,40 @@ final class AnnotationValuesImpl implements AnnotationValues {
                 final @NonNull Class<? extends @NonNull Annotation> annotationType) {
 
             Objects.requireNonNull(annotationType, "annotationType cannot be null");
-            return annotate(annotationType.getTypeName());
+
+            final int index = addAnnotation(annotationType.getTypeName());
+
+            if (annotationClasses == null) {
+                annotationClasses = new Class<?>[annotations.length];
+            }
+
+            annotationClasses[index] = annotationType;
+            return this;
+        }
+
+        /**
+         * Adds the specified annotation type if it wasn't already added.
+         *
+         * @return the index of the annotation type.
+         */
+        private int addAnnotation(final @NonNull String annotationType) {
+
+            for (int i = 0; i < annotationCount; i++) {
+                if (annotations[i].equals(annotationType)) {
+                    return i;
+                }
+            }
+
+            if (annotationCount == annotations.length) {
+                annotations = Arrays.copyOf(annotations, annotationCount * 2);
+
+                if (annotationClasses != null) {
+                    annotationClasses = Arrays.copyOf(annotationClasses, annotationCount * 2);
+                }
+            }
+
+            annotations[annotationCount] = annotationType;
+            return annotationCount++;
         }
 
         @Override
@@ -394,65 +755,120 @@ final class AnnotationValuesImpl implements AnnotationValues {
         private @NonNull @This Builder boxValue(final @NonNull AnnotationElement element,
                                                 final @NonNull Object value) {
 
-            Objects.requireNonNull(element, "element cannot be null");
             Objects.requireNonNull(value, "value cannot be null");
+            return put(element, OBJECT, value, 0);
+        }
+
+        private @NonNull @This Builder primitiveValue(final @NonNull AnnotationElement element,
+                                                      final byte kind,
+                                                      final long value) {
+
+            return put(element, kind, null, value);
+        }
+
+        private @NonNull @This Builder put(final @NonNull AnnotationElement element,
+                                           final byte kind,
+                                           final @Nullable Object value,
+                                           final long primitive) {
+
+            Objects.requireNonNull(element, "element cannot be null");
+
+            int index = 0;
+            while (index < elementCount && !elements[index].equals(element)) {
+                index++;
+            }
+
+            if (index == elementCount) {
+                if (elementCount == elements.length) {
+                    grow();
+                }
+
+                elements[index] = element;
+                elementCount++;
+            }
+
+            if (kind != OBJECT && kinds == null) {
+                kinds = new byte[elements.length];
+                primitives = new long[elements.length];
+            }
+
+            values[index] = value;
+
+            if (kinds != null) {
+                assert primitives != null;
+                kinds[index] = kind;
+                primitives[index] = primitive;
+            }
 
-            values.put(element, value);
             return annotate(element.getAnnotationType());
         }
 
+        private void grow() {
+
+            final int capacity = elements.length * 2;
+
+            elements = Arrays.copyOf(elements, capacity);
+            values = Arrays.copyOf(values, capacity);
+
+            if (kinds != null) {
+                assert primitives != null;
+                kinds = Arrays.copyOf(kinds, capacity);
+                primitives = Arrays.copyOf(primitives, capacity);
+            }
+        }
+
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final int value) {
 
-            return boxValue(element, value);
+            return primitiveValue(element, INT, value);
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final byte value) {
 
-            return boxValue(element, value);
+            return primitiveValue(element, BYTE, value);
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final short value) {
 
-            return boxValue(element, value);
+            return primitiveValue(element, SHORT, value);
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final long value) {
 
-            return boxValue(element, value);
+            return primitiveValue(element, LONG, value);
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element, final float value) {
 
-            return boxValue(element, value);
+            return primitiveValue(element, FLOAT, Float.floatToIntBits(value));
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final double value) {
 
-            return boxValue(element, value);
+            return primitiveValue(element, DOUBLE, Double.doubleToLongBits(value));
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final boolean value) {
 
-            return boxValue(element, value);
+            return primitiveValue(element, BOOLEAN, value ? 1 : 0);
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element, final char value) {
 
-            return boxValue(element, value);
+            return primitiveValue(element, CHAR, value);
         }
 
         @Override
@@ -487,56 +903,64 @@ final class AnnotationValuesImpl implements AnnotationValues {
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final int @NonNull ... value) {
 
-            return boxValue(element, value);
+            Objects.requireNonNull(value, "value cannot be null");
+            return boxValue(element, value.clone());
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final byte @NonNull ... value) {
 
-            return boxValue(element, value);
+            Objects.requireNonNull(value, "value cannot be null");
+            return boxValue(element, value.clone());
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final short @NonNull ... value) {
 
-            return boxValue(element, value);
+            Objects.requireNonNull(value, "value cannot be null");
+            return boxValue(element, value.clone());
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final long @NonNull ... value) {
 
-            return boxValue(element, value);
+            Objects.requireNonNull(value, "value cannot be null");
+            return boxValue(element, value.clone());
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final float @NonNull ... value) {
 
-            return boxValue(element, value);
+            Objects.requireNonNull(value, "value cannot be null");
+            return boxValue(element, value.clone());
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final double @NonNull ... value) {
 
-            return boxValue(element, value);
+            Objects.requireNonNull(value, "value cannot be null");
+            return boxValue(element, value.clone());
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final boolean @NonNull ... value) {
 
-            return boxValue(element, value);
+            Objects.requireNonNull(value, "value cannot be null");
+            return boxValue(element, value.clone());
         }
 
         @Override
         public @NonNull @This Builder value(final @NonNull AnnotationElement element,
                                             final char @NonNull ... value) {
 
-            return boxValue(element, value);
+            Objects.requireNonNull(value, "value cannot be null");
+            return boxValue(element, value.clone());
         }
 
         @Override
@@ -643,7 +1067,50 @@ final class AnnotationValuesImpl implements AnnotationValues {
         @Override
         public @NonNull AnnotationValues build() {
 
-            return new AnnotationValuesImpl(annotations, values);
+            if (annotationCount == 0) {
+                return EMPTY;
+            }
+
+            final AnnotationElementImpl[] elements = new AnnotationElementImpl[elementCount];
+
+            for (int i = 0; i < elementCount; i++) {
+                elements[i] = AnnotationElementImpl.intern(this.elements[i]);
+            }
+
+            return new AnnotationValuesImpl(
+                    Arrays.copyOf(annotations, annotationCount),
+                    annotationClasses == null
+                            ? null
+                            : Arrays.copyOf(annotationClasses, annotationCount),
+                    elementCount == 0 ? NO_ELEMENTS : elements,
+                    elementCount == 0 ? NO_VALUES : Arrays.copyOf(values, elementCount),
+                    kinds == null ? null : Arrays.copyOf(kinds, elementCount),
+                    primitives == null ? null : Arrays.copyOf(primitives, elementCount));
+        }
+    }
+
+    /**
+     * An unmodifiable set view of an array without duplicates.
+     */
+    private static final class ArraySet<E extends @NonNull Object> extends AbstractSet<@NonNull E> {
+
+        private final @NonNull E @NonNull [] elements;
+
+        ArraySet(final @NonNull E @NonNull [] elements) {
+
+            this.elements = elements;
+        }
+
+        @Override
+        public @NonNull Iterator<@NonNull E> iterator() {
+
+            return Arrays.asList(elements).iterator();
+        }
+
+        @Override
+        public int size() {
+
+            return elements.length;
         }
     }
 }
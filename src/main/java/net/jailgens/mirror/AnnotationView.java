@@ -0,0 +1,413 @@
+package net.jailgens.mirror;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.IncompleteAnnotationException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An annotation synthesized from {@link AnnotationValues} (see
+ * {@link AnnotationValues#as(Class)}).
+ * <p>
+ * The annotation is a {@link Proxy} of the annotation type, but nothing is reflected when its
+ * methods are called. The elements of each annotation type are looked up once, and their values
+ * are converted to the element's type when the annotation is created, so calling an element only
+ * finds the element's index by comparing the identity of the proxy's
+ * {@link java.lang.reflect.Method} and reads the value (arrays are copied, like they are by the
+ * JDK's annotations).
+ *
+ * @author Sparky983
+ */
+final class AnnotationView implements java.lang.reflect.InvocationHandler {
+
+    private static final @NonNull ClassValue<@NonNull AnnotationType> TYPES =
+            new ClassValue<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                protected @NonNull AnnotationType computeValue(final @NonNull Class<?> cls) {
+
+                    return new AnnotationType((Class<? extends Annotation>) cls);
+                }
+            };
+
+    private final @NonNull AnnotationType type;
+    /**
+     * The values of the elements, or {@code null} if an element has no value.
+     */
+    private final @Nullable Object @NonNull [] values;
+    private final boolean complete;
+    private final int hashCode;
+
+    private AnnotationView(final @NonNull AnnotationType type,
+                           final @NonNull AnnotationValues annotationValues) {
+
+        this.type = type;
+        this.values = new Object[type.elements.length];
+
+        boolean complete = true;
+        int hashCode = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            final java.lang.reflect.Method element = type.elements[i];
+            final Object value = annotationValues.getBoxed(type.annotationElements[i])
+                    .map((boxed) -> toElementType(boxed, element.getReturnType()))
+                    .orElseGet(element::getDefaultValue);
+
+            if (value == null) {
+                complete = false;
+            } else {
+                hashCode += (127 * element.getName().hashCode()) ^ valueHashCode(value);
+            }
+
+            values[i] = value;
+        }
+
+        this.complete = complete;
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * Creates an annotation of the specified type, which is backed by the specified values.
+     *
+     * @param annotationValues the values.
+     * @param annotationType the annotation type.
+     * @param <A> the annotation type.
+     * @return the annotation.
+     * @throws ClassCastException if a value is not of its element's type.
+     * @throws IllegalArgumentException if {@code annotationType} is not an annotation type, or
+     * the values don't contain the annotation.
+     */
+    static <A extends @NonNull Annotation> @NonNull A create(
+            final @NonNull AnnotationValues annotationValues,
+            final @NonNull Class<@NonNull A> annotationType) {
+
+        if (!annotationType.isAnnotation()) {
+            throw new IllegalArgumentException(annotationType.getName() + " is not an annotation type");
+        }
+
+        if (!annotationValues.hasAnnotation(annotationType)) {
+            throw new IllegalArgumentException("The annotation values are not annotated with " +
+                    annotationType.getName());
+        }
+
+        final AnnotationView view = new AnnotationView(TYPES.get(annotationType), annotationValues);
+
+        return annotationType.cast(Proxy.newProxyInstance(annotationType.getClassLoader(),
+                new Class<?>[] {annotationType},
+                view));
+    }
+
+    @Override
+    public @NonNull Object invoke(final @NonNull Object proxy,
+                                  final java.lang.reflect.@NonNull Method method,
+                                  final @Nullable Object @Nullable [] args) throws Throwable {
+
+        final int index = type.index(method);
+
+        if (index >= 0) {
+            return getValue(index);
+        }
+
+        switch (index) {
+            case AnnotationType.HASH_CODE:
+                return complete ? hashCode : computeHashCode();
+            case AnnotationType.TO_STRING:
+                return toString();
+            case AnnotationType.ANNOTATION_TYPE:
+                return type.annotationType;
+            case AnnotationType.EQUALS:
+                return annotationEquals(proxy, args[0]);
+            default:
+                throw new AssertionError("Unexpected method " + method);
+        }
+    }
+
+    private @NonNull Object getValue(final int index) {
+
+        final Object value = values[index];
+
+        if (value == null) {
+            throw new IncompleteAnnotationException(type.annotationType,
+                    type.elements[index].getName());
+        }
+
+        if (value.getClass().isArray() && Array.getLength(value) != 0) {
+            final int length = Array.getLength(value);
+            final Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+
+        return value;
+    }
+
+    private int computeHashCode() {
+
+        int hashCode = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            hashCode += (127 * type.elements[i].getName().hashCode()) ^ valueHashCode(getValue(i));
+        }
+
+        return hashCode;
+    }
+
+    private boolean annotationEquals(final @NonNull Object proxy, final @Nullable Object o)
+            throws Throwable {
+
+        if (proxy == o) {
+            return true;
+        }
+
+        if (!type.annotationType.isInstance(o)) {
+            return false;
+        }
+
+        if (Proxy.isProxyClass(o.getClass()) &&
+                Proxy.getInvocationHandler(o) instanceof AnnotationView) {
+            final AnnotationView that = (AnnotationView) Proxy.getInvocationHandler(o);
+
+            if (complete && that.complete && hashCode != that.hashCode) {
+                return false;
+            }
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            final Object thatValue = type.accessors[i].invokeExact((Annotation) o);
+
+            if (!Objects.deepEquals(getValue(i), thatValue)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public @NonNull String toString() {
+
+        final StringBuilder builder = new StringBuilder()
+                .append('@')
+                .append(type.annotationType.getName())
+                .append('(');
+
+        for (int i = 0; i < values.length; i++) {
+            if (i != 0) {
+                builder.append(", ");
+            }
+
+            builder.append(type.elements[i].getName())
+                    .append('=');
+
+            final Object value = values[i];
+
+            if (value != null && value.getClass().isArray()) {
+                // deepToString handles all array types, but only of elements, so the array is
+                // wrapped, and the wrapper's brackets are removed
+                final String string = Arrays.deepToString(new Object[] {value});
+                builder.append(string, 1, string.length() - 1);
+            } else {
+                builder.append(value);
+            }
+        }
+
+        return builder.append(')').toString();
+    }
+
+    /**
+     * Converts a value of {@link AnnotationValues} to the specified element type.
+     */
+    @SuppressWarnings("unchecked")
+    private static @NonNull Object toElementType(final @NonNull Object value,
+                                                 final @NonNull Class<?> elementType) {
+
+        if (elementType.isAnnotation()) {
+            return ((AnnotationValues) value).as((Class<? extends Annotation>) elementType);
+        }
+
+        if (elementType.isPrimitive()) {
+            return MethodType.methodType(elementType).wrap().returnType().cast(value);
+        }
+
+        if (!elementType.isArray() || elementType.getComponentType().isPrimitive()) {
+            return elementType.cast(value);
+        }
+
+        // other arrays are stored as lists
+        final Class<?> componentType = elementType.getComponentType();
+        final List<?> list = (List<?>) value;
+        final Object[] array = (Object[]) Array.newInstance(componentType, list.size());
+
+        for (int i = 0; i < array.length; i++) {
+            array[i] = toElementType(list.get(i), componentType);
+        }
+
+        return array;
+    }
+
+    private static int valueHashCode(final @NonNull Object value) {
+
+        if (value instanceof int[]) {
+            return Arrays.hashCode((int[]) value);
+        } else if (value instanceof byte[]) {
+            return Arrays.hashCode((byte[]) value);
+        } else if (value instanceof short[]) {
+            return Arrays.hashCode((short[]) value);
+        } else if (value instanceof long[]) {
+            return Arrays.hashCode((long[]) value);
+        } else if (value instanceof float[]) {
+            return Arrays.hashCode((float[]) value);
+        } else if (value instanceof double[]) {
+            return Arrays.hashCode((double[]) value);
+        } else if (value instanceof boolean[]) {
+            return Arrays.hashCode((boolean[]) value);
+        } else if (value instanceof char[]) {
+            return Arrays.hashCode((char[]) value);
+        } else if (value instanceof Object[]) {
+            return Arrays.hashCode((Object[]) value);
+        }
+
+        return value.hashCode();
+    }
+
+    /**
+     * The elements of an annotation type.
+     */
+    private static final class AnnotationType {
+
+        static final int HASH_CODE = -1;
+        static final int TO_STRING = -2;
+        static final int ANNOTATION_TYPE = -3;
+        static final int EQUALS = -4;
+        static final int UNKNOWN = -5;
+
+        private final @NonNull Class<? extends @NonNull Annotation> annotationType;
+        private final java.lang.reflect.@NonNull Method @NonNull [] elements;
+        private final @NonNull AnnotationElement @NonNull [] annotationElements;
+        /**
+         * The {@code (Annotation)Object} accessors of the elements, used to compare the
+         * annotation with other implementations.
+         */
+        private final @NonNull MethodHandle @NonNull [] accessors;
+        private final @NonNull Map<@NonNull String, @NonNull Integer> indexes = new HashMap<>();
+        /**
+         * The methods the proxies have been called with, and their indexes.
+         * <p>
+         * A proxy class passes the same {@link java.lang.reflect.Method} instances on every call,
+         * so after the first call of each method its index is found by comparing the identities
+         * of the few methods of the annotation, without hashing its name. The arrays are copied on
+         * write, because they only grow until every method was called once. Racing writers may
+         * drop each other's entries, which are then just computed again.
+         */
+        private volatile @NonNull MethodIndexes methodIndexes = new MethodIndexes(
+                new java.lang.reflect.Method[0],
+                new int[0]);
+
+        AnnotationType(final @NonNull Class<? extends @NonNull Annotation> annotationType) {
+
+            this.annotationType = annotationType;
+            this.elements = annotationType.getDeclaredMethods();
+            this.annotationElements = new AnnotationElement[elements.length];
+            this.accessors = new MethodHandle[elements.length];
+
+            try {
+                for (int i = 0; i < elements.length; i++) {
+                    final java.lang.reflect.Method element = elements[i];
+
+                    annotationElements[i] = AnnotationElement.of(annotationType, element.getName());
+                    accessors[i] = Reflections.lookup(annotationType)
+                            .unreflect(element)
+                            .asType(MethodType.methodType(Object.class, Annotation.class));
+                    indexes.put(element.getName(), i);
+                }
+            } catch (final IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Returns the index of the element the specified method returns, or one of the negative
+         * constants for the other methods of an annotation.
+         */
+        int index(final java.lang.reflect.@NonNull Method method) {
+
+            final MethodIndexes methodIndexes = this.methodIndexes;
+            final java.lang.reflect.Method[] methods = methodIndexes.methods;
+
+            for (int i = 0; i < methods.length; i++) {
+                if (methods[i] == method) {
+                    return methodIndexes.indexes[i];
+                }
+            }
+
+            final int index = computeIndex(method);
+
+            if (index != UNKNOWN) {
+                final java.lang.reflect.Method[] newMethods =
+                        Arrays.copyOf(methods, methods.length + 1);
+                final int[] newIndexes = Arrays.copyOf(methodIndexes.indexes, methods.length + 1);
+                newMethods[methods.length] = method;
+                newIndexes[methods.length] = index;
+                this.methodIndexes = new MethodIndexes(newMethods, newIndexes);
+            }
+
+            return index;
+        }
+
+        private int computeIndex(final java.lang.reflect.@NonNull Method method) {
+
+            final String name = method.getName();
+
+            if (method.getParameterCount() == 0) {
+                final Integer index = indexes.get(name);
+
+                if (index != null) {
+                    return index;
+                }
+
+                switch (name) {
+                    case "hashCode":
+                        return HASH_CODE;
+                    case "toString":
+                        return TO_STRING;
+                    case "annotationType":
+                        return ANNOTATION_TYPE;
+                    default:
+                        return UNKNOWN;
+                }
+            }
+
+            if (method.getParameterCount() == 1 && name.equals("equals")) {
+                return EQUALS;
+            }
+
+            return UNKNOWN;
+        }
+    }
+
+    /**
+     * Methods and their indexes, at the same positions in both arrays.
+     */
+    private static final class MethodIndexes {
+
+        private final java.lang.reflect.@NonNull Method @NonNull [] methods;
+        private final int @NonNull [] indexes;
+
+        MethodIndexes(final java.lang.reflect.@NonNull Method @NonNull [] methods,
+                      final int @NonNull [] indexes) {
+
+            this.methods = methods;
+            this.indexes = indexes;
+        }
+    }
+}
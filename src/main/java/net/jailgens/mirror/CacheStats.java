@@ -0,0 +1,136 @@
+package net.jailgens.mirror;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.dataflow.qual.Pure;
+
+import java.time.Duration;
+
+/**
+ * An immutable snapshot of a {@link Mirror}'s {@link TypeDefinition} cache statistics, including
+ * how many {@link AnnotationValues} were deduplicated.
+ *
+ * @author Sparky983
+ * @see Mirror#cacheStats()
+ * @since 0.5.0
+ */
+public interface CacheStats {
+
+    /**
+     * Gets the number of times a cached type definition was returned.
+     *
+     * @return the number of cache hits.
+     * @since 0.5.0
+     */
+    @Pure
+    long getHitCount();
+
+    /**
+     * Gets the number of times a type definition had to be created.
+     *
+     * @return the number of cache misses.
+     * @since 0.5.0
+     */
+    @Pure
+    long getMissCount();
+
+    /**
+     * Gets the ratio of cache hits to requests, or {@code 1.0} if there were no requests.
+     *
+     * @return the hit rate.
+     * @since 0.5.0
+     */
+    @Pure
+    default double getHitRate() {
+
+        final long requestCount = getHitCount() + getMissCount();
+
+        if (requestCount == 0) {
+            return 1.0;
+        }
+
+        return (double) getHitCount() / requestCount;
+    }
+
+    /**
+     * Gets the number of type definitions that were evicted because the cache was full.
+     * <p>
+     * This doesn't include type definitions that were {@linkplain Mirror#invalidate(ClassLoader)
+     * invalidated}, or whose class was unloaded.
+     *
+     * @return the number of evictions.
+     * @since 0.5.0
+     */
+    @Pure
+    long getEvictionCount();
+
+    /**
+     * Gets the total time spent creating type definitions.
+     *
+     * @return the total load time.
+     * @since 0.5.0
+     */
+    @Pure
+    @NonNull Duration getTotalLoadTime();
+
+    /**
+     * Gets the number of cached type definitions.
+     *
+     * @return the number of cached type definitions.
+     * @since 0.5.0
+     */
+    @Pure
+    long getSize();
+
+    /**
+     * Gets the total weight of the cached type definitions.
+     * <p>
+     * If no {@linkplain Mirror.Builder#maximumWeight(long) maximum weight} is configured, every
+     * type definition weighs {@code 1}, so this is the same as {@link #getSize()}.
+     *
+     * @return the total weight.
+     * @since 0.5.0
+     */
+    @Pure
+    long getWeight();
+
+    /**
+     * Gets the number of annotation values that were created for reflected types, members and
+     * parameters.
+     *
+     * @return the number of annotation values.
+     * @since 0.5.0
+     */
+    @Pure
+    long getAnnotationValuesCount();
+
+    /**
+     * Gets the number of annotation values that were deduplicated, which means an equal instance
+     * was already in use, and is shared instead.
+     * <p>
+     * Empty annotation values are always shared, so they are always deduplicated.
+     *
+     * @return the number of deduplicated annotation values.
+     * @since 0.5.0
+     */
+    @Pure
+    long getDeduplicatedAnnotationValuesCount();
+
+    /**
+     * Gets the ratio of deduplicated annotation values to created annotation values, or
+     * {@code 0.0} if no annotation values were created.
+     *
+     * @return the deduplication rate.
+     * @since 0.5.0
+     */
+    @Pure
+    default double getAnnotationValuesDeduplicationRate() {
+
+        final long annotationValuesCount = getAnnotationValuesCount();
+
+        if (annotationValuesCount == 0) {
+            return 0.0;
+        }
+
+        return (double) getDeduplicatedAnnotationValuesCount() / annotationValuesCount;
+    }
+}
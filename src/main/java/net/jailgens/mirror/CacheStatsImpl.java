@@ -0,0 +1,151 @@
+package net.jailgens.mirror;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The default {@link CacheStats} implementation.
+ *
+ * @author Sparky983
+ */
+final class CacheStatsImpl implements CacheStats {
+
+    /**
+     * The stats of a mirror that doesn't cache.
+     */
+    static final @NonNull CacheStats EMPTY = new CacheStatsImpl(0, 0, 0, Duration.ZERO, 0, 0, 0, 0);
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final @NonNull Duration totalLoadTime;
+    private final long size;
+    private final long weight;
+    private final long annotationValuesCount;
+    private final long deduplicatedAnnotationValuesCount;
+
+    @Pure
+    CacheStatsImpl(final long hitCount,
+                   final long missCount,
+                   final long evictionCount,
+                   final @NonNull Duration totalLoadTime,
+                   final long size,
+                   final long weight,
+                   final long annotationValuesCount,
+                   final long deduplicatedAnnotationValuesCount) {
+
+        Objects.requireNonNull(totalLoadTime, "totalLoadTime cannot be null");
+
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.totalLoadTime = totalLoadTime;
+        this.size = size;
+        this.weight = weight;
+        this.annotationValuesCount = annotationValuesCount;
+        this.deduplicatedAnnotationValuesCount = deduplicatedAnnotationValuesCount;
+    }
+
+    @Override
+    public long getHitCount() {
+
+        return hitCount;
+    }
+
+    @Override
+    public long getMissCount() {
+
+        return missCount;
+    }
+
+    @Override
+    public long getEvictionCount() {
+
+        return evictionCount;
+    }
+
+    @Override
+    public @NonNull Duration getTotalLoadTime() {
+
+        return totalLoadTime;
+    }
+
+    @Override
+    public long getSize() {
+
+        return size;
+    }
+
+    @Override
+    public long getWeight() {
+
+        return weight;
+    }
+
+    @Override
+    public long getAnnotationValuesCount() {
+
+        return annotationValuesCount;
+    }
+
+    @Override
+    public long getDeduplicatedAnnotationValuesCount() {
+
+        return deduplicatedAnnotationValuesCount;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof CacheStatsImpl)) {
+            return false;
+        }
+
+        final CacheStatsImpl other = (CacheStatsImpl) o;
+
+        return hitCount == other.hitCount &&
+                missCount == other.missCount &&
+                evictionCount == other.evictionCount &&
+                totalLoadTime.equals(other.totalLoadTime) &&
+                size == other.size &&
+                weight == other.weight &&
+                annotationValuesCount == other.annotationValuesCount &&
+                deduplicatedAnnotationValuesCount == other.deduplicatedAnnotationValuesCount;
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(hitCount,
+                missCount,
+                evictionCount,
+                totalLoadTime,
+                size,
+                weight,
+                annotationValuesCount,
+                deduplicatedAnnotationValuesCount);
+    }
+
+    @Override
+    public @NonNull String toString() {
+
+        return "CacheStats{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", totalLoadTime=" + totalLoadTime +
+                ", size=" + size +
+                ", weight=" + weight +
+                ", annotationValuesCount=" + annotationValuesCount +
+                ", deduplicatedAnnotationValuesCount=" + deduplicatedAnnotationValuesCount +
+                '}';
+    }
+}
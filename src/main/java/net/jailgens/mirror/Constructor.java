@@ -26,4 +26,99 @@ public interface Constructor<T extends @NonNull Object> extends
      * @throws NullPointerException if {@code arguments} is {@code null}.
      */
     @NonNull T construct(@Nullable Object @NonNull ... arguments);
+
+    /**
+     * Calls the constructor with no arguments.
+     * <p>
+     * Equivalent to {@link #construct(Object...)}, but doesn't allocate an argument array.
+     *
+     * @return the constructed object.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 0}.
+     * @throws IllegalStateException if this constructor is not instantiatable (part of abstract
+     * class).
+     * @throws InvocationException if the target constructor threw an exception.
+     * @since 0.5.0
+     */
+    @NonNull T construct0();
+
+    /**
+     * Calls the constructor with a single argument.
+     * <p>
+     * Equivalent to {@link #construct(Object...)}, but doesn't allocate an argument array.
+     *
+     * @param a the first argument.
+     * @return the constructed object.
+     * @throws ClassCastException if any of the arguments could not be cast to this
+     * constructor's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 1}.
+     * @throws IllegalStateException if this constructor is not instantiatable (part of abstract
+     * class).
+     * @throws InvocationException if the target constructor threw an exception.
+     * @since 0.5.0
+     */
+    @NonNull T construct1(@Nullable Object a);
+
+    /**
+     * Calls the constructor with two arguments.
+     * <p>
+     * Equivalent to {@link #construct(Object...)}, but doesn't allocate an argument array.
+     *
+     * @param a the first argument.
+     * @param b the second argument.
+     * @return the constructed object.
+     * @throws ClassCastException if any of the arguments could not be cast to this
+     * constructor's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 2}.
+     * @throws IllegalStateException if this constructor is not instantiatable (part of abstract
+     * class).
+     * @throws InvocationException if the target constructor threw an exception.
+     * @since 0.5.0
+     */
+    @NonNull T construct2(@Nullable Object a, @Nullable Object b);
+
+    /**
+     * Calls the constructor with three arguments.
+     * <p>
+     * Equivalent to {@link #construct(Object...)}, but doesn't allocate an argument array.
+     *
+     * @param a the first argument.
+     * @param b the second argument.
+     * @param c the third argument.
+     * @return the constructed object.
+     * @throws ClassCastException if any of the arguments could not be cast to this
+     * constructor's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 3}.
+     * @throws IllegalStateException if this constructor is not instantiatable (part of abstract
+     * class).
+     * @throws InvocationException if the target constructor threw an exception.
+     * @since 0.5.0
+     */
+    @NonNull T construct3(@Nullable Object a, @Nullable Object b, @Nullable Object c);
+
+    /**
+     * Creates an instance of the specified functional interface that calls this constructor.
+     * <p>
+     * The parameters of the functional interface's method are the arguments, for example a
+     * no-args constructor can be called through a {@link java.util.function.Supplier}, and a
+     * single argument constructor through a {@link java.util.function.Function}. Arguments are
+     * cast, boxed and unboxed as necessary.
+     * <p>
+     * The instance is generated with the {@link java.lang.invoke.LambdaMetafactory}, so calling it
+     * is as fast as calling a lambda. If the declaring class is in another module than mirror
+     * (for example because it was defined by another class loader), a
+     * {@link java.lang.invoke.MethodHandleProxies} instance may be returned instead, which is
+     * much slower to call. Unlike {@link #construct(Object...)}, exceptions thrown by
+     * this constructor are not wrapped in an {@link InvocationException}.
+     *
+     * @param functionalInterface the functional interface.
+     * @param <F> the functional interface.
+     * @return an instance of the functional interface.
+     * @throws IllegalArgumentException if {@code functionalInterface} is not a functional
+     * interface, or its method is not compatible with this constructor.
+     * @throws IllegalStateException if this constructor is not instantiatable (part of abstract
+     * class).
+     * @throws NullPointerException if {@code functionalInterface} is {@code null}.
+     * @since 0.5.0
+     */
+    <F extends @NonNull Object> @NonNull F asFunction(@NonNull Class<@NonNull F> functionalInterface);
 }
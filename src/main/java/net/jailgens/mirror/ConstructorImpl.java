@@ -5,9 +5,8 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.Pure;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -25,9 +24,20 @@ final class ConstructorImpl<T extends @NonNull Object> implements Constructor<@N
     private final java.lang.reflect.@NonNull Constructor<@NonNull T> constructor;
     private final @NonNull AnnotationValues annotations;
     private final @NonNull List<@NonNull Parameter<?>> parameters;
+    private final @NonNull Class<?> @NonNull [] parameterTypes;
     private final @NonNull ParameterizedType<@NonNull T> type;
-    private final @NonNull Set<@NonNull Modifier> modifiers;
+    private final @NonNull ModifierSet modifiers;
     private final @NonNull List<@NonNull Annotation> rawAnnotations;
+    private final int hashCode;
+
+    /**
+     * The lazily resolved fixed-arity invoker (see {@link Invokers#constructor}).
+     */
+    private volatile @Nullable MethodHandle invoker;
+    /**
+     * The lazily resolved {@code (Object[])Object} spreader of {@link #invoker}.
+     */
+    private volatile @Nullable MethodHandle spreader;
 
     @Pure
     public ConstructorImpl(final @NonNull TypeDefinition<@NonNull T> declaringType,
@@ -38,13 +48,16 @@ final class ConstructorImpl<T extends @NonNull Object> implements Constructor<@N
 
         this.declaringType = declaringType;
         this.constructor = constructor;
-        this.annotations = Reflections.createAnnotationValues(constructor);
+        this.annotations = TypeDefinitionImpl.createAnnotationValues(declaringType, constructor);
+        this.parameterTypes = constructor.getParameterTypes();
         this.parameters = Arrays.stream(constructor.getParameters())
-                .<Parameter<?>>map(ParameterImpl::new)
+                .<Parameter<?>>map((parameter) -> new ParameterImpl<>(declaringType, parameter))
                 .collect(Collectors.toUnmodifiableList());
         this.type = ParameterizedType.of(constructor.getDeclaringClass());
-        this.modifiers = Modifier.modifiersAsSet(constructor.getModifiers());
+        this.modifiers = ModifierSet.of(constructor.getModifiers());
         this.rawAnnotations = List.of(constructor.getAnnotations());
+        this.hashCode =
+                Objects.hash(declaringType, constructor, annotations, parameters, type, modifiers);
     }
 
     @Override
@@ -68,31 +81,125 @@ final class ConstructorImpl<T extends @NonNull Object> implements Constructor<@N
         return rawAnnotations;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public @NonNull T construct(final @Nullable Object @NonNull ... arguments) {
 
         Objects.requireNonNull(arguments, "arguments cannot be null");
 
-        if (arguments.length != parameters.size()) {
-            throw new IllegalArgumentException("Argument length differs from parameter length (" + parameters.size() + ")");
+        checkConstruction(arguments.length);
+
+        try {
+            return (T) (Object) spreader().invokeExact(arguments);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
         }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NonNull T construct0() {
+
+        checkConstruction(0);
 
         try {
-            constructor.setAccessible(true);
-            return constructor.newInstance(arguments);
-        } catch (final InvocationTargetException e) {
-            throw new InvocationException(e.getTargetException());
-        } catch (final IllegalArgumentException e) {
-            throw new ClassCastException(e.getMessage());
-        } catch (final InstantiationException e) {
+            return (T) (Object) invoker().invokeExact();
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NonNull T construct1(final @Nullable Object a) {
+
+        checkConstruction(1);
+
+        try {
+            return (T) (Object) invoker().invokeExact(a);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NonNull T construct2(final @Nullable Object a, final @Nullable Object b) {
+
+        checkConstruction(2);
+
+        try {
+            return (T) (Object) invoker().invokeExact(a, b);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NonNull T construct3(final @Nullable Object a,
+                                 final @Nullable Object b,
+                                 final @Nullable Object c) {
+
+        checkConstruction(3);
+
+        try {
+            return (T) (Object) invoker().invokeExact(a, b, c);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    private void checkConstruction(final int argumentCount) {
+
+        if (argumentCount != parameters.size()) {
+            throw new IllegalArgumentException("Argument length differs from parameter length (" + parameters.size() + ")");
+        }
+
+        if (declaringType.isAbstract()) {
             throw new IllegalStateException("Constructor must be instantiatable");
-        } catch (final IllegalAccessException e) {
-            throw new RuntimeException(e);
-        } finally {
-            constructor.setAccessible(false);
         }
     }
 
+    @Override
+    public <F extends @NonNull Object> @NonNull F asFunction(
+            final @NonNull Class<@NonNull F> functionalInterface) {
+
+        Objects.requireNonNull(functionalInterface, "functionalInterface cannot be null");
+
+        if (declaringType.isAbstract()) {
+            throw new IllegalStateException("Constructor must be instantiatable");
+        }
+
+        return Invokers.function(constructor.getDeclaringClass(),
+                Invokers.unreflect(constructor),
+                functionalInterface);
+    }
+
+    private @NonNull MethodHandle invoker() {
+
+        MethodHandle invoker = this.invoker;
+
+        if (invoker == null) {
+            invoker = Invokers.constructor(constructor);
+            this.invoker = invoker;
+        }
+
+        return invoker;
+    }
+
+    private @NonNull MethodHandle spreader() {
+
+        MethodHandle spreader = this.spreader;
+
+        if (spreader == null) {
+            spreader = Invokers.spreader(invoker(), 0);
+            this.spreader = spreader;
+        }
+
+        return spreader;
+    }
+
     @Override
     public @NonNull List<@NonNull Parameter<?>> getParameters() {
 
@@ -123,6 +230,12 @@ final class ConstructorImpl<T extends @NonNull Object> implements Constructor<@N
         return modifiers;
     }
 
+    @Override
+    public int getModifierBits() {
+
+        return modifiers.bits();
+    }
+
     @Override
     public @NonNull TypeDefinition<@NonNull T> getDeclaringType() {
 
@@ -135,6 +248,28 @@ final class ConstructorImpl<T extends @NonNull Object> implements Constructor<@N
         return declaringType.getRawType();
     }
 
+    /**
+     * Gets the number of this constructor's parameters.
+     *
+     * @return the number of parameters.
+     */
+    int parameterCount() {
+
+        return parameterTypes.length;
+    }
+
+    /**
+     * Checks whether this constructor's raw parameter types are the specified parameter types, without
+     * copying them.
+     *
+     * @param parameterTypes the parameter types.
+     * @return whether this constructor has the specified parameter types.
+     */
+    boolean hasParameterTypes(final @NonNull Class<?> @NonNull [] parameterTypes) {
+
+        return Arrays.equals(this.parameterTypes, parameterTypes);
+    }
+
     @Override
     public boolean equals(final @Nullable Object o) {
 
@@ -148,8 +283,9 @@ final class ConstructorImpl<T extends @NonNull Object> implements Constructor<@N
 
         ConstructorImpl<?> other = (ConstructorImpl<?>) o;
 
-        return declaringType.equals(other.declaringType) &&
+        return hashCode == other.hashCode &&
                 constructor.equals(other.constructor) &&
+                declaringType.equals(other.declaringType) &&
                 annotations.equals(other.annotations) &&
                 parameters.equals(other.parameters) &&
                 type.equals(other.type) &&
@@ -159,6 +295,6 @@ final class ConstructorImpl<T extends @NonNull Object> implements Constructor<@N
     @Override
     public int hashCode() {
 
-        return Objects.hash(declaringType, constructor, annotations, parameters, type, modifiers);
+        return hashCode;
     }
 }
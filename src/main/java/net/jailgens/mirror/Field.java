@@ -11,7 +11,8 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * @param <T> the type of the field.
  * @since 0.0.0
  */
-public interface Field<R extends @NonNull Object, T extends @Nullable Object> extends Member<@NonNull R>, Typed<@NonNull T> {
+public interface Field<R extends @NonNull Object, T extends @Nullable Object> extends
+        Annotated, Member<@NonNull R>, Typed<@NonNull T> {
 
     /**
      * Gets the value of this field.
@@ -32,9 +33,264 @@ public interface Field<R extends @NonNull Object, T extends @Nullable Object> ex
      * @param receiver the object to set the field value on, may optionally be {@code null}
      * if this has no receiver (static field).
      * @param value the value.
+     * @throws IllegalArgumentException if {@code value} is not an instance of this field's type,
+     * or is {@code null} and this field is of a primitive type.
      * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
      * receiver.
      * @since 0.0.0
      */
     void set(@Nullable R receiver, @NonNull T value);
+
+    /**
+     * Gets the value of this {@code int} field without boxing it.
+     *
+     * @param receiver the object to retrieve the field value from, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @return the value of the field.
+     * @throws ClassCastException if this field is not of type {@code int}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    int getInt(@Nullable R receiver);
+
+    /**
+     * Sets the value of this {@code int} field without boxing it.
+     *
+     * @param receiver the object to set the field value on, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @param value the value.
+     * @throws ClassCastException if this field is not of type {@code int}.
+     * @throws IllegalStateException if this field is {@code final}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    void setInt(@Nullable R receiver, int value);
+
+    /**
+     * Gets the value of this {@code long} field without boxing it.
+     *
+     * @param receiver the object to retrieve the field value from, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @return the value of the field.
+     * @throws ClassCastException if this field is not of type {@code long}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    long getLong(@Nullable R receiver);
+
+    /**
+     * Sets the value of this {@code long} field without boxing it.
+     *
+     * @param receiver the object to set the field value on, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @param value the value.
+     * @throws ClassCastException if this field is not of type {@code long}.
+     * @throws IllegalStateException if this field is {@code final}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    void setLong(@Nullable R receiver, long value);
+
+    /**
+     * Gets the value of this {@code double} field without boxing it.
+     *
+     * @param receiver the object to retrieve the field value from, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @return the value of the field.
+     * @throws ClassCastException if this field is not of type {@code double}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    double getDouble(@Nullable R receiver);
+
+    /**
+     * Sets the value of this {@code double} field without boxing it.
+     *
+     * @param receiver the object to set the field value on, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @param value the value.
+     * @throws ClassCastException if this field is not of type {@code double}.
+     * @throws IllegalStateException if this field is {@code final}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    void setDouble(@Nullable R receiver, double value);
+
+    /**
+     * Gets the value of this {@code boolean} field without boxing it.
+     *
+     * @param receiver the object to retrieve the field value from, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @return the value of the field.
+     * @throws ClassCastException if this field is not of type {@code boolean}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    boolean getBoolean(@Nullable R receiver);
+
+    /**
+     * Sets the value of this {@code boolean} field without boxing it.
+     *
+     * @param receiver the object to set the field value on, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @param value the value.
+     * @throws ClassCastException if this field is not of type {@code boolean}.
+     * @throws IllegalStateException if this field is {@code final}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    void setBoolean(@Nullable R receiver, boolean value);
+
+    /**
+     * Gets the value of this field with volatile memory semantics.
+     *
+     * @param receiver the object to retrieve the field value from, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @return the value of the field.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @see java.lang.invoke.VarHandle#getVolatile(Object...)
+     * @since 0.5.0
+     */
+    @NonNull T getVolatile(@Nullable R receiver);
+
+    /**
+     * Sets the value of this field with release memory semantics.
+     *
+     * @param receiver the object to set the field value on, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @param value the value.
+     * @throws IllegalStateException if this field is {@code final}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @see java.lang.invoke.VarHandle#setRelease(Object...)
+     * @since 0.5.0
+     */
+    void setRelease(@Nullable R receiver, @NonNull T value);
+
+    /**
+     * Atomically sets the value of this field to {@code newValue} if the current value equals
+     * {@code expectedValue}, with volatile memory semantics.
+     * <p>
+     * Reference fields are compared by identity, primitive fields are compared by value.
+     *
+     * @param receiver the object to set the field value on, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @param expectedValue the expected value.
+     * @param newValue the new value.
+     * @return whether the value was set.
+     * @throws IllegalStateException if this field is {@code final}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @see java.lang.invoke.VarHandle#compareAndSet(Object...)
+     * @since 0.5.0
+     */
+    boolean compareAndSet(@Nullable R receiver, @NonNull T expectedValue, @NonNull T newValue);
+
+    /**
+     * Atomically sets the value of this field and returns the previous value, with volatile
+     * memory semantics.
+     *
+     * @param receiver the object to set the field value on, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @param value the new value.
+     * @return the previous value.
+     * @throws IllegalStateException if this field is {@code final}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @see java.lang.invoke.VarHandle#getAndSet(Object...)
+     * @since 0.5.0
+     */
+    @NonNull T getAndSet(@Nullable R receiver, @NonNull T value);
+
+    /**
+     * Atomically adds the specified delta to the value of this numeric field and returns the
+     * previous value, with volatile memory semantics.
+     *
+     * @param receiver the object to set the field value on, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @param delta the value to add.
+     * @return the previous value.
+     * @throws ClassCastException if this field is not of a numeric primitive type.
+     * @throws IllegalStateException if this field is {@code final}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @see java.lang.invoke.VarHandle#getAndAdd(Object...)
+     * @since 0.5.0
+     */
+    @NonNull T getAndAdd(@Nullable R receiver, @NonNull T delta);
+
+    /**
+     * Atomically sets the value of this {@code int} field to {@code newValue} if the current
+     * value equals {@code expectedValue}, without boxing.
+     *
+     * @param receiver the object to set the field value on, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @param expectedValue the expected value.
+     * @param newValue the new value.
+     * @return whether the value was set.
+     * @throws ClassCastException if this field is not of type {@code int}.
+     * @throws IllegalStateException if this field is {@code final}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    boolean compareAndSetInt(@Nullable R receiver, int expectedValue, int newValue);
+
+    /**
+     * Atomically adds the specified delta to the value of this {@code int} field and returns the
+     * previous value, without boxing.
+     *
+     * @param receiver the object to set the field value on, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @param delta the value to add.
+     * @return the previous value.
+     * @throws ClassCastException if this field is not of type {@code int}.
+     * @throws IllegalStateException if this field is {@code final}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    int getAndAddInt(@Nullable R receiver, int delta);
+
+    /**
+     * Atomically sets the value of this {@code long} field to {@code newValue} if the current
+     * value equals {@code expectedValue}, without boxing.
+     *
+     * @param receiver the object to set the field value on, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @param expectedValue the expected value.
+     * @param newValue the new value.
+     * @return whether the value was set.
+     * @throws ClassCastException if this field is not of type {@code long}.
+     * @throws IllegalStateException if this field is {@code final}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    boolean compareAndSetLong(@Nullable R receiver, long expectedValue, long newValue);
+
+    /**
+     * Atomically adds the specified delta to the value of this {@code long} field and returns the
+     * previous value, without boxing.
+     *
+     * @param receiver the object to set the field value on, may optionally be {@code null}
+     * if this has no receiver (static field).
+     * @param delta the value to add.
+     * @return the previous value.
+     * @throws ClassCastException if this field is not of type {@code long}.
+     * @throws IllegalStateException if this field is {@code final}.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    long getAndAddLong(@Nullable R receiver, long delta);
 }
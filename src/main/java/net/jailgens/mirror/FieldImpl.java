@@ -4,11 +4,13 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.Pure;
 
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.VarHandle;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
-import static java.lang.reflect.Modifier.isStatic;
-
 /**
  * The default {@link Field} implementation.
  *
@@ -20,20 +22,80 @@ final class FieldImpl<R extends @NonNull Object, T extends @Nullable Object> imp
 
     private final @NonNull TypeDefinition<@NonNull R> declaringType;
     private final java.lang.reflect.@NonNull Field field;
-    private final @NonNull Set<@NonNull Modifier> modifiers;
+    private final @NonNull AnnotationValues annotations;
+    private final @NonNull ModifierSet modifiers;
     private final @NonNull ParameterizedType<@NonNull T> type;
+    private final @NonNull List<@NonNull Annotation> rawAnnotations;
+    private final int hashCode;
+
+    /**
+     * The lazily resolved {@code (Object)Object} getter.
+     */
+    private volatile @Nullable MethodHandle getter;
+    /**
+     * The lazily resolved {@code (Object, Object)void} setter.
+     */
+    private volatile @Nullable MethodHandle setter;
+    /**
+     * The lazily resolved {@code (Object)type} getter, used to avoid boxing primitives.
+     */
+    private volatile @Nullable MethodHandle exactGetter;
+    /**
+     * The lazily resolved {@code (Object, type)void} setter, used to avoid boxing primitives.
+     */
+    private volatile @Nullable MethodHandle exactSetter;
+    /**
+     * The lazily resolved var handle, used for memory ordered and atomic access.
+     */
+    private volatile @Nullable VarHandle varHandle;
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     @Pure
     FieldImpl(final @NonNull TypeDefinition<@NonNull R> declaringType,
               final java.lang.reflect.@NonNull Field field) {
 
+        this(declaringType, field, field.getDeclaringClass());
+    }
+
+    /**
+     * Creates a field whose type is resolved against the specified context class (see
+     * {@link TypeResolver}).
+     */
+    @SuppressWarnings("unchecked")
+    @Pure
+    FieldImpl(final @NonNull TypeDefinition<@NonNull R> declaringType,
+              final java.lang.reflect.@NonNull Field field,
+              final @NonNull Class<?> context) {
+
         Objects.requireNonNull(field, "field cannot be null");
 
         this.declaringType = declaringType;
         this.field = field;
-        this.modifiers = Modifier.modifiersAsSet(field.getModifiers());
-        this.type = ParameterizedType.of((Class) field.getType());
+        this.annotations = TypeDefinitionImpl.createAnnotationValues(declaringType, field);
+        this.modifiers = ModifierSet.of(field.getModifiers());
+        this.type = (ParameterizedType<T>) TypeResolver.resolve(context, field.getGenericType());
+        this.rawAnnotations = List.of(field.getAnnotations());
+        this.hashCode = Objects.hash(declaringType, field, annotations, modifiers, type);
+    }
+
+    @Override
+    public @NonNull AnnotationValues getAnnotations() {
+
+        return annotations;
+    }
+
+    @Override
+    public <A extends @NonNull Annotation> @Nullable A getRawAnnotation(
+            final @NonNull Class<@NonNull A> annotationType) {
+
+        Objects.requireNonNull(annotationType, "annotationType cannot be null");
+
+        return field.getAnnotation(annotationType);
+    }
+
+    @Override
+    public @NonNull List<@NonNull Annotation> getRawAnnotations() {
+
+        return rawAnnotations;
     }
 
     @SuppressWarnings("unchecked")
@@ -41,12 +103,11 @@ final class FieldImpl<R extends @NonNull Object, T extends @Nullable Object> imp
     public @NonNull T get(final @Nullable R receiver) {
 
         try {
-            field.setAccessible(true);
-            return (T) field.get(receiver);
-        } catch (final IllegalAccessException e) {
+            return (T) (Object) getter().invokeExact((Object) receiver);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
             throw new RuntimeException(e);
-        } finally {
-            field.setAccessible(false);
         }
     }
 
@@ -54,7 +115,7 @@ final class FieldImpl<R extends @NonNull Object, T extends @Nullable Object> imp
     @Override
     public void set(final @Nullable R receiver, final @NonNull T value) {
 
-        if (!isStatic(field.getModifiers())) {
+        if (!isStatic()) {
             Objects.requireNonNull(receiver, "receiver cannot be null");
         }
 
@@ -63,12 +124,355 @@ final class FieldImpl<R extends @NonNull Object, T extends @Nullable Object> imp
         }
 
         try {
-            field.setAccessible(true);
-            field.set(receiver, value);
-        } catch (final IllegalAccessException e) {
+            setter().invokeExact((Object) receiver, (Object) value);
+        } catch (final NullPointerException e) {
+            // only thrown when a null value is unboxed
+            throw new IllegalArgumentException("Cannot set a primitive field to null", e);
+        } catch (final ClassCastException e) {
+            // java.lang.reflect.Field.set throws IllegalArgumentException
+            throw new IllegalArgumentException("Cannot set field to a value of another type", e);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private @NonNull MethodHandle getter() {
+
+        MethodHandle getter = this.getter;
+
+        if (getter == null) {
+            getter = Invokers.getter(field);
+            this.getter = getter;
+        }
+
+        return getter;
+    }
+
+    private @NonNull MethodHandle setter() {
+
+        MethodHandle setter = this.setter;
+
+        if (setter == null) {
+            setter = Invokers.setter(field);
+            this.setter = setter;
+        }
+
+        return setter;
+    }
+
+    @Override
+    public int getInt(final @Nullable R receiver) {
+
+        try {
+            return (int) exactGetter(int.class).invokeExact((Object) receiver);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setInt(final @Nullable R receiver, final int value) {
+
+        try {
+            exactSetter(receiver, int.class).invokeExact((Object) receiver, value);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public long getLong(final @Nullable R receiver) {
+
+        try {
+            return (long) exactGetter(long.class).invokeExact((Object) receiver);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setLong(final @Nullable R receiver, final long value) {
+
+        try {
+            exactSetter(receiver, long.class).invokeExact((Object) receiver, value);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public double getDouble(final @Nullable R receiver) {
+
+        try {
+            return (double) exactGetter(double.class).invokeExact((Object) receiver);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setDouble(final @Nullable R receiver, final double value) {
+
+        try {
+            exactSetter(receiver, double.class).invokeExact((Object) receiver, value);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(final @Nullable R receiver) {
+
+        try {
+            return (boolean) exactGetter(boolean.class).invokeExact((Object) receiver);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
             throw new RuntimeException(e);
-        } finally {
-            field.setAccessible(false);
+        }
+    }
+
+    @Override
+    public void setBoolean(final @Nullable R receiver, final boolean value) {
+
+        try {
+            exactSetter(receiver, boolean.class).invokeExact((Object) receiver, value);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NonNull T getVolatile(final @Nullable R receiver) {
+
+        if (isStatic()) {
+            return (T) varHandle().getVolatile();
+        }
+
+        return (T) varHandle().getVolatile(receiver);
+    }
+
+    @Override
+    public void setRelease(final @Nullable R receiver, final @NonNull T value) {
+
+        final VarHandle varHandle = writableVarHandle(receiver);
+
+        try {
+            if (isStatic()) {
+                varHandle.setRelease(value);
+            } else {
+                varHandle.setRelease(receiver, value);
+            }
+        } catch (final NullPointerException e) {
+            // only thrown when a null value is unboxed
+            throw new ClassCastException("Cannot cast null to a primitive type");
+        }
+    }
+
+    @Override
+    public boolean compareAndSet(final @Nullable R receiver,
+                                 final @NonNull T expectedValue,
+                                 final @NonNull T newValue) {
+
+        final VarHandle varHandle = writableVarHandle(receiver);
+
+        try {
+            if (isStatic()) {
+                return varHandle.compareAndSet(expectedValue, newValue);
+            }
+
+            return varHandle.compareAndSet(receiver, expectedValue, newValue);
+        } catch (final NullPointerException e) {
+            // only thrown when a null value is unboxed
+            throw new ClassCastException("Cannot cast null to a primitive type");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NonNull T getAndSet(final @Nullable R receiver, final @NonNull T value) {
+
+        final VarHandle varHandle = writableVarHandle(receiver);
+
+        try {
+            if (isStatic()) {
+                return (T) varHandle.getAndSet(value);
+            }
+
+            return (T) varHandle.getAndSet(receiver, value);
+        } catch (final NullPointerException e) {
+            // only thrown when a null value is unboxed
+            throw new ClassCastException("Cannot cast null to a primitive type");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NonNull T getAndAdd(final @Nullable R receiver, final @NonNull T delta) {
+
+        final Class<?> type = field.getType();
+
+        if (!type.isPrimitive() || type == boolean.class) {
+            throw new ClassCastException("Field " + field.getName() + " of type " +
+                    type.getTypeName() + " is not numeric");
+        }
+
+        final VarHandle varHandle = writableVarHandle(receiver);
+
+        try {
+            if (isStatic()) {
+                return (T) varHandle.getAndAdd(delta);
+            }
+
+            return (T) varHandle.getAndAdd(receiver, delta);
+        } catch (final NullPointerException e) {
+            // only thrown when a null value is unboxed
+            throw new ClassCastException("Cannot cast null to a primitive type");
+        }
+    }
+
+    @Override
+    public boolean compareAndSetInt(final @Nullable R receiver,
+                                    final int expectedValue,
+                                    final int newValue) {
+
+        checkType(int.class);
+        final VarHandle varHandle = writableVarHandle(receiver);
+
+        if (isStatic()) {
+            return varHandle.compareAndSet(expectedValue, newValue);
+        }
+
+        return varHandle.compareAndSet(receiver, expectedValue, newValue);
+    }
+
+    @Override
+    public int getAndAddInt(final @Nullable R receiver, final int delta) {
+
+        checkType(int.class);
+        final VarHandle varHandle = writableVarHandle(receiver);
+
+        if (isStatic()) {
+            return (int) varHandle.getAndAdd(delta);
+        }
+
+        return (int) varHandle.getAndAdd(receiver, delta);
+    }
+
+    @Override
+    public boolean compareAndSetLong(final @Nullable R receiver,
+                                     final long expectedValue,
+                                     final long newValue) {
+
+        checkType(long.class);
+        final VarHandle varHandle = writableVarHandle(receiver);
+
+        if (isStatic()) {
+            return varHandle.compareAndSet(expectedValue, newValue);
+        }
+
+        return varHandle.compareAndSet(receiver, expectedValue, newValue);
+    }
+
+    @Override
+    public long getAndAddLong(final @Nullable R receiver, final long delta) {
+
+        checkType(long.class);
+        final VarHandle varHandle = writableVarHandle(receiver);
+
+        if (isStatic()) {
+            return (long) varHandle.getAndAdd(delta);
+        }
+
+        return (long) varHandle.getAndAdd(receiver, delta);
+    }
+
+    private @NonNull VarHandle varHandle() {
+
+        VarHandle varHandle = this.varHandle;
+
+        if (varHandle == null) {
+            varHandle = Invokers.varHandle(field);
+            this.varHandle = varHandle;
+        }
+
+        return varHandle;
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private @NonNull VarHandle writableVarHandle(final @Nullable R receiver) {
+
+        if (!isStatic()) {
+            Objects.requireNonNull(receiver, "receiver cannot be null");
+        }
+
+        if (modifiers.contains(Modifier.FINAL)) {
+            throw new IllegalStateException("Cannot mutate final field");
+        }
+
+        return varHandle();
+    }
+
+    private @NonNull MethodHandle exactGetter(final @NonNull Class<?> type) {
+
+        checkType(type);
+
+        MethodHandle exactGetter = this.exactGetter;
+
+        if (exactGetter == null) {
+            exactGetter = Invokers.getter(field, type);
+            this.exactGetter = exactGetter;
+        }
+
+        return exactGetter;
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private @NonNull MethodHandle exactSetter(final @Nullable R receiver,
+                                              final @NonNull Class<?> type) {
+
+        checkType(type);
+
+        if (!isStatic()) {
+            Objects.requireNonNull(receiver, "receiver cannot be null");
+        }
+
+        if (modifiers.contains(Modifier.FINAL)) {
+            throw new IllegalStateException("Cannot mutate final field");
+        }
+
+        MethodHandle exactSetter = this.exactSetter;
+
+        if (exactSetter == null) {
+            exactSetter = Invokers.setter(field, type);
+            this.exactSetter = exactSetter;
+        }
+
+        return exactSetter;
+    }
+
+    private void checkType(final @NonNull Class<?> type) {
+
+        if (field.getType() != type) {
+            throw new ClassCastException("Field " + field.getName() + " is of type " +
+                    field.getType().getTypeName() + ", not " + type.getTypeName());
         }
     }
 
@@ -84,6 +488,12 @@ final class FieldImpl<R extends @NonNull Object, T extends @Nullable Object> imp
         return modifiers;
     }
 
+    @Override
+    public int getModifierBits() {
+
+        return modifiers.bits();
+    }
+
     @Override
     public @NonNull TypeDefinition<@NonNull R> getDeclaringType() {
 
@@ -108,6 +518,22 @@ final class FieldImpl<R extends @NonNull Object, T extends @Nullable Object> imp
         return type.getRawType();
     }
 
+    /**
+     * Gets this field as it is inherited by the specified subclass of its declaring class, with
+     * its type resolved against the subclass.
+     *
+     * @param subclass the subclass.
+     * @return this field if its type is the same in the subclass, otherwise a new field.
+     */
+    @NonNull FieldImpl<@NonNull R, ?> inheritedBy(final @NonNull Class<?> subclass) {
+
+        if (TypeResolver.resolve(subclass, field.getGenericType()).equals(type)) {
+            return this;
+        }
+
+        return new FieldImpl<>(declaringType, field, subclass);
+    }
+
     @Override
     public boolean equals(final @Nullable Object o) {
 
@@ -121,8 +547,10 @@ final class FieldImpl<R extends @NonNull Object, T extends @Nullable Object> imp
 
         FieldImpl<?, ?> other = (FieldImpl<?, ?>) o;
 
-        return declaringType.equals(other.declaringType) &&
+        return hashCode == other.hashCode &&
                 field.equals(other.field) &&
+                declaringType.equals(other.declaringType) &&
+                annotations.equals(other.annotations) &&
                 modifiers.equals(other.modifiers) &&
                 type.equals(other.type);
     }
@@ -130,6 +558,6 @@ final class FieldImpl<R extends @NonNull Object, T extends @Nullable Object> imp
     @Override
     public int hashCode() {
 
-        return Objects.hash(declaringType, field, modifiers, type);
+        return hashCode;
     }
 }
@@ -0,0 +1,169 @@
+package net.jailgens.mirror;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe table of canonical instances, which only weakly references them.
+ * <p>
+ * {@link #intern(Object)} returns the canonical instance equal to the specified value, so equal
+ * values share a single instance while any of them is still referenced. Since the canonical
+ * instances are only weakly referenced, interning never keeps a value (or the classes and class
+ * loaders it references) alive. Entries of collected values are removed the next time a value is
+ * interned.
+ *
+ * @author Sparky983
+ * @param <T> the type of the values.
+ */
+final class Interner<T extends @NonNull Object> {
+
+    private final @NonNull Map<@NonNull Object, @NonNull WeakEntry<@NonNull T>> table =
+            new ConcurrentHashMap<>();
+    private final @NonNull ReferenceQueue<@NonNull T> collected = new ReferenceQueue<>();
+
+    /**
+     * Gets the canonical instance equal to the specified value, making the value canonical if
+     * there is none.
+     *
+     * @param value the value.
+     * @return the canonical instance.
+     * @throws NullPointerException if {@code value} is {@code null}.
+     */
+    @NonNull T intern(final @NonNull T value) {
+
+        Objects.requireNonNull(value, "value cannot be null");
+
+        expungeCollectedEntries();
+
+        final LookupKey lookupKey = new LookupKey(value);
+
+        while (true) {
+            final WeakEntry<T> entry = table.get(lookupKey);
+
+            if (entry != null) {
+                final T canonical = entry.get();
+
+                if (canonical != null) {
+                    return canonical;
+                }
+
+                // collected, but not yet expunged
+                table.remove(entry, entry);
+                continue;
+            }
+
+            final WeakEntry<T> newEntry = new WeakEntry<>(value, lookupKey.hash, collected);
+
+            if (table.putIfAbsent(newEntry, newEntry) == null) {
+                return value;
+            }
+        }
+    }
+
+    private void expungeCollectedEntries() {
+
+        Reference<? extends T> reference;
+
+        while ((reference = collected.poll()) != null) {
+            final WeakEntry<?> entry = (WeakEntry<?>) reference;
+            table.remove(entry, entry);
+        }
+    }
+
+    /**
+     * A key of the table. Keys are equal if they are the same key, or their values are equal.
+     */
+    private interface Key {
+
+        @Nullable Object value();
+    }
+
+    /**
+     * A strongly referenced key, used to look up a value.
+     */
+    private static final class LookupKey implements Key {
+
+        private final @NonNull Object value;
+        private final int hash;
+
+        LookupKey(final @NonNull Object value) {
+
+            this.value = value;
+            this.hash = value.hashCode();
+        }
+
+        @Override
+        public @NonNull Object value() {
+
+            return value;
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object o) {
+
+            return o instanceof Key && value.equals(((Key) o).value());
+        }
+
+        @Override
+        public int hashCode() {
+
+            return hash;
+        }
+    }
+
+    /**
+     * An entry of the table, which is its own key, and only weakly references its value.
+     */
+    private static final class WeakEntry<T extends @NonNull Object>
+            extends WeakReference<@NonNull T> implements Key {
+
+        /**
+         * The hash code of the value, which must be stored since the value may be collected.
+         */
+        private final int hash;
+
+        WeakEntry(final @NonNull T value,
+                  final int hash,
+                  final @NonNull ReferenceQueue<@NonNull T> queue) {
+
+            super(value, queue);
+
+            this.hash = hash;
+        }
+
+        @Override
+        public @Nullable Object value() {
+
+            return get();
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object o) {
+
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            final Object value = get();
+
+            return value != null && value.equals(((Key) o).value());
+        }
+
+        @Override
+        public int hashCode() {
+
+            return hash;
+        }
+    }
+}
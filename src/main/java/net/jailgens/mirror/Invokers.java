@@ -0,0 +1,450 @@
+package net.jailgens.mirror;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.WrongMethodTypeException;
+import java.util.Objects;
+
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isStatic;
+
+/**
+ * An internal utility class for creating method handle based invokers and field accessors.
+ * <p>
+ * Every invoker wraps any exception thrown by its target in an {@link InvocationException}, so
+ * any other exception thrown by an invoker was caused by adapting the arguments (e.g. a
+ * {@link ClassCastException} if an argument had the wrong type).
+ *
+ * @author Sparky983
+ */
+final class Invokers {
+
+    private static final @NonNull MethodHandle THROW_INVOCATION_EXCEPTION;
+
+    static {
+        try {
+            THROW_INVOCATION_EXCEPTION = MethodHandles.lookup().findStatic(Invokers.class,
+                    "throwInvocationException",
+                    MethodType.methodType(Object.class, Throwable.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Invokers() {
+
+    }
+
+    private static @NonNull Object throwInvocationException(
+            final @NonNull Throwable targetException) {
+
+        throw new InvocationException(targetException);
+    }
+
+    /**
+     * Creates an invoker for the specified method.
+     * <p>
+     * The invoker takes the receiver followed by the arguments, all of type {@code Object}, and
+     * returns {@code Object} (it's of the {@linkplain MethodType#genericMethodType(int) generic
+     * type} with one more parameter than the method). For static methods the receiver is
+     * ignored, and for {@code void} methods {@code null} is returned.
+     *
+     * @param method the method.
+     * @return the invoker.
+     */
+    @SideEffectFree
+    static @NonNull MethodHandle method(final java.lang.reflect.@NonNull Method method) {
+
+        return method(method, Object.class);
+    }
+
+    /**
+     * Creates an invoker for the specified method that returns the specified type.
+     * <p>
+     * The invoker is like the {@linkplain #method(java.lang.reflect.Method) generic invoker},
+     * but returns {@code returnType}. If {@code returnType} is the method's primitive return
+     * type, the result is never boxed.
+     *
+     * @param method the method.
+     * @param returnType the type the invoker returns.
+     * @return the invoker.
+     */
+    @SideEffectFree
+    static @NonNull MethodHandle method(final java.lang.reflect.@NonNull Method method,
+                                        final @NonNull Class<?> returnType) {
+
+        Objects.requireNonNull(method, "method cannot be null");
+        Objects.requireNonNull(returnType, "returnType cannot be null");
+
+        MethodHandle handle = wrapExceptions(unreflect(method));
+
+        if (isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        return handle.asType(handle.type().generic().changeReturnType(returnType));
+    }
+
+    /**
+     * Creates an invoker for the specified constructor.
+     * <p>
+     * The invoker takes the arguments, all of type {@code Object}, and returns {@code Object} (it's
+     * of the {@linkplain MethodType#genericMethodType(int) generic type} with as many parameters
+     * as the constructor).
+     *
+     * @param constructor the constructor.
+     * @return the invoker.
+     */
+    @SideEffectFree
+    static @NonNull MethodHandle constructor(
+            final java.lang.reflect.@NonNull Constructor<?> constructor) {
+
+        Objects.requireNonNull(constructor, "constructor cannot be null");
+
+        final MethodHandle handle = wrapExceptions(unreflect(constructor));
+
+        return handle.asType(handle.type().generic());
+    }
+
+    /**
+     * Creates a spreader for the specified invoker, that takes all arguments after the leading
+     * arguments as an {@code Object[]}.
+     * <p>
+     * For example, the spreader of a method invoker is of type {@code (Object, Object[])Object},
+     * and the spreader of a constructor invoker is of type {@code (Object[])Object}.
+     *
+     * @param invoker the invoker.
+     * @param leadingArguments the number of arguments that aren't spread.
+     * @return the spreader.
+     */
+    @SideEffectFree
+    static @NonNull MethodHandle spreader(final @NonNull MethodHandle invoker,
+                                          final int leadingArguments) {
+
+        Objects.requireNonNull(invoker, "invoker cannot be null");
+
+        return invoker.asSpreader(Object[].class,
+                invoker.type().parameterCount() - leadingArguments);
+    }
+
+    /**
+     * Converts a throwable thrown by an invoker into an exception that can be rethrown by
+     * {@link Method#invoke(Object, Object...)} or {@link Constructor#construct(Object...)}.
+     * <p>
+     * The receiver must already be checked for {@code null}, so that a
+     * {@link NullPointerException} can only be caused by unboxing a {@code null} argument.
+     *
+     * @param throwable the throwable.
+     * @return the exception to rethrow.
+     */
+    static @NonNull RuntimeException propagate(final @NonNull Throwable throwable) {
+
+        if (throwable instanceof NullPointerException) {
+            return new ClassCastException("Cannot cast null to a primitive type");
+        }
+
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        }
+
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+
+        return new RuntimeException(throwable);
+    }
+
+    /**
+     * Creates a getter for the specified field.
+     * <p>
+     * The getter is of type {@code (Object)Object}. For static fields the receiver is ignored.
+     *
+     * @param field the field.
+     * @return the getter.
+     */
+    @SideEffectFree
+    static @NonNull MethodHandle getter(final java.lang.reflect.@NonNull Field field) {
+
+        return getter(field, Object.class);
+    }
+
+    /**
+     * Creates a getter for the specified field that returns the specified type.
+     * <p>
+     * The getter is of type {@code (Object)type}. For static fields the receiver is ignored.
+     *
+     * @param field the field.
+     * @param type the type the getter returns.
+     * @return the getter.
+     */
+    @SideEffectFree
+    static @NonNull MethodHandle getter(final java.lang.reflect.@NonNull Field field,
+                                        final @NonNull Class<?> type) {
+
+        Objects.requireNonNull(field, "field cannot be null");
+        Objects.requireNonNull(type, "type cannot be null");
+
+        MethodHandle handle;
+        try {
+            handle = Reflections.lookup(field.getDeclaringClass()).unreflectGetter(field);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+
+        if (isStatic(field.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        return handle.asType(MethodType.methodType(type, Object.class));
+    }
+
+    /**
+     * Creates a setter for the specified non-final field.
+     * <p>
+     * The setter is of type {@code (Object, Object)void}. For static fields the receiver is
+     * ignored.
+     *
+     * @param field the field.
+     * @return the setter.
+     */
+    @SideEffectFree
+    static @NonNull MethodHandle setter(final java.lang.reflect.@NonNull Field field) {
+
+        return setter(field, Object.class);
+    }
+
+    /**
+     * Creates a setter for the specified non-final field that accepts the specified type.
+     * <p>
+     * The setter is of type {@code (Object, type)void}. For static fields the receiver is
+     * ignored.
+     *
+     * @param field the field.
+     * @param type the type the setter accepts.
+     * @return the setter.
+     */
+    @SideEffectFree
+    static @NonNull MethodHandle setter(final java.lang.reflect.@NonNull Field field,
+                                        final @NonNull Class<?> type) {
+
+        Objects.requireNonNull(field, "field cannot be null");
+        Objects.requireNonNull(type, "type cannot be null");
+
+        MethodHandle handle;
+        try {
+            handle = Reflections.lookup(field.getDeclaringClass()).unreflectSetter(field);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+
+        if (isStatic(field.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        return handle.asType(MethodType.methodType(void.class, Object.class, type));
+    }
+
+    /**
+     * Creates a var handle for the specified field.
+     * <p>
+     * The var handle has no coordinates for static fields, and the receiver as its only
+     * coordinate for instance fields.
+     *
+     * @param field the field.
+     * @return the var handle.
+     */
+    @SideEffectFree
+    static @NonNull VarHandle varHandle(final java.lang.reflect.@NonNull Field field) {
+
+        Objects.requireNonNull(field, "field cannot be null");
+
+        try {
+            return Reflections.lookup(field.getDeclaringClass()).unreflectVarHandle(field);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Unreflects the specified method into a direct method handle.
+     *
+     * @param method the method.
+     * @return the direct method handle.
+     */
+    @SideEffectFree
+    static @NonNull MethodHandle unreflect(final java.lang.reflect.@NonNull Method method) {
+
+        try {
+            return Reflections.lookup(method.getDeclaringClass()).unreflect(method);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Unreflects the specified constructor into a direct method handle.
+     *
+     * @param constructor the constructor.
+     * @return the direct method handle.
+     */
+    @SideEffectFree
+    static @NonNull MethodHandle unreflect(
+            final java.lang.reflect.@NonNull Constructor<?> constructor) {
+
+        try {
+            return Reflections.lookup(constructor.getDeclaringClass())
+                    .unreflectConstructor(constructor);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates an instance of the specified functional interface that calls the specified direct
+     * method handle.
+     * <p>
+     * The instance is spun by the {@link LambdaMetafactory}, so calling it is as fast as calling a
+     * lambda. The metafactory requires a lookup with full privilege (private and module) access
+     * to the declaring class, which (since JDK 14) mirror only has for classes in its own module.
+     * For classes in other modules, which includes classes defined by other class loaders (each
+     * class loader has its own unnamed module), a {@link MethodHandleProxies} instance is created
+     * instead, which is much slower to call.
+     *
+     * @param declaringClass the class that declares the target of the method handle.
+     * @param target the direct method handle.
+     * @param functionalInterface the functional interface.
+     * @param <F> the functional interface.
+     * @return the functional interface instance.
+     * @throws IllegalArgumentException if {@code functionalInterface} is not a functional
+     * interface, or its method is not compatible with {@code target}.
+     */
+    @SuppressWarnings("unchecked")
+    static <F extends @NonNull Object> @NonNull F function(
+            final @NonNull Class<?> declaringClass,
+            final @NonNull MethodHandle target,
+            final @NonNull Class<@NonNull F> functionalInterface) {
+
+        Objects.requireNonNull(functionalInterface, "functionalInterface cannot be null");
+
+        final java.lang.reflect.Method functionMethod = functionMethod(functionalInterface);
+        final MethodType functionType = MethodType.methodType(functionMethod.getReturnType(),
+                functionMethod.getParameterTypes());
+        final MethodType targetType = target.type();
+
+        if (functionType.parameterCount() != targetType.parameterCount()) {
+            throw new IllegalArgumentException(functionalInterface.getName() + "." +
+                    functionMethod.getName() + " has " + functionType.parameterCount() +
+                    " parameters, but " + targetType.parameterCount() + " are required");
+        }
+
+        try {
+            final CallSite callSite = LambdaMetafactory.metafactory(
+                    Reflections.lookup(declaringClass),
+                    functionMethod.getName(),
+                    MethodType.methodType(functionalInterface),
+                    functionType,
+                    target,
+                    instantiatedType(functionType, targetType));
+
+            return (F) callSite.getTarget().invoke();
+        } catch (final LambdaConversionException | LinkageError e) {
+            try {
+                return MethodHandleProxies.asInterfaceInstance(functionalInterface,
+                        target.asType(functionType));
+            } catch (final WrongMethodTypeException ex) {
+                throw new IllegalArgumentException(functionalInterface.getName() + "." +
+                        functionMethod.getName() + " is not compatible with " + targetType, ex);
+            }
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static java.lang.reflect.@NonNull Method functionMethod(
+            final @NonNull Class<?> functionalInterface) {
+
+        if (!functionalInterface.isInterface()) {
+            throw new IllegalArgumentException(
+                    functionalInterface.getName() + " is not a functional interface");
+        }
+
+        java.lang.reflect.Method functionMethod = null;
+
+        for (final java.lang.reflect.Method method : functionalInterface.getMethods()) {
+            if (!isAbstract(method.getModifiers()) || isObjectMethod(method)) {
+                continue;
+            }
+
+            if (functionMethod != null) {
+                throw new IllegalArgumentException(
+                        functionalInterface.getName() + " is not a functional interface");
+            }
+
+            functionMethod = method;
+        }
+
+        if (functionMethod == null) {
+            throw new IllegalArgumentException(
+                    functionalInterface.getName() + " is not a functional interface");
+        }
+
+        return functionMethod;
+    }
+
+    private static boolean isObjectMethod(final java.lang.reflect.@NonNull Method method) {
+
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (final NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Specializes the reference types of the function type with the types of the target, so the
+     * metafactory inserts the necessary casts.
+     */
+    private static @NonNull MethodType instantiatedType(final @NonNull MethodType functionType,
+                                                        final @NonNull MethodType targetType) {
+
+        final Class<?>[] parameterTypes = functionType.parameterArray();
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!parameterTypes[i].isPrimitive()) {
+                parameterTypes[i] = targetType.wrap().parameterType(i);
+            }
+        }
+
+        final Class<?> returnType = functionType.returnType();
+
+        if (returnType.isPrimitive() || targetType.returnType() == void.class) {
+            return MethodType.methodType(returnType, parameterTypes);
+        }
+
+        return MethodType.methodType(targetType.wrap().returnType(), parameterTypes);
+    }
+
+    private static @NonNull MethodHandle wrapExceptions(final @NonNull MethodHandle target) {
+
+        final MethodType type = target.type();
+        final MethodHandle handler = MethodHandles.dropArguments(
+                THROW_INVOCATION_EXCEPTION.asType(
+                        MethodType.methodType(type.returnType(), Throwable.class)),
+                1,
+                type.parameterList());
+
+        return MethodHandles.catchException(target, Throwable.class, handler);
+    }
+}
@@ -0,0 +1,68 @@
+package net.jailgens.mirror;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A lazily computed, thread-safely memoized value.
+ * <p>
+ * The value is computed by the supplier the first time {@link #get()} is called, exactly once,
+ * even if many threads call {@link #get()} at the same time. Once computed, reads are lock-free.
+ *
+ * @author Sparky983
+ * @param <T> the type of the value.
+ */
+final class Lazy<T extends @NonNull Object> implements Supplier<@NonNull T> {
+
+    /**
+     * The supplier, or {@code null} once the value has been computed (so anything it captures
+     * can be collected).
+     */
+    private @Nullable Supplier<? extends @NonNull T> supplier;
+    private volatile @Nullable T value;
+
+    private Lazy(final @NonNull Supplier<? extends @NonNull T> supplier) {
+
+        this.supplier = supplier;
+    }
+
+    /**
+     * Creates a lazy value that is computed by the specified supplier.
+     *
+     * @param supplier the supplier.
+     * @param <T> the type of the value.
+     * @return the lazy value.
+     * @throws NullPointerException if {@code supplier} is {@code null}.
+     */
+    static <T extends @NonNull Object> @NonNull Lazy<@NonNull T> of(
+            final @NonNull Supplier<? extends @NonNull T> supplier) {
+
+        Objects.requireNonNull(supplier, "supplier cannot be null");
+
+        return new Lazy<>(supplier);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Override
+    public @NonNull T get() {
+
+        T value = this.value;
+
+        if (value == null) {
+            synchronized (this) {
+                value = this.value;
+
+                if (value == null) {
+                    value = Objects.requireNonNull(supplier.get(), "value cannot be null");
+                    this.value = value;
+                    supplier = null;
+                }
+            }
+        }
+
+        return value;
+    }
+}
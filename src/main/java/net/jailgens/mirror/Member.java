@@ -7,13 +7,20 @@ import java.util.Set;
 
 /**
  * Represents a class member.
+ * <p>
+ * Members are thread-safe. Access to the underlying member is established once (with a method
+ * handle, see {@link java.lang.invoke.MethodHandles.Lookup}) and then shared by every thread, so
+ * a member may be used from many threads at once without external synchronization.
+ * <p>
+ * A caching {@link Mirror} creates each member once, so members reflected by the same mirror are
+ * only equal if they are the same instance, which makes them cheap map keys.
  *
  * @author Sparky983
  * @param <T> the declaring type.
  * @see java.lang.reflect.Member
  * @since 0.0.0
  */
-public interface Member<T extends @NonNull Object> {
+public interface Member<T extends @NonNull Object> extends Modifiable {
 
     /**
      * Gets this member's name.
@@ -32,6 +39,7 @@ public interface Member<T extends @NonNull Object> {
      * @return all this member's modifiers.
      * @since 0.0.0
      */
+    @Override
     @Pure
     @NonNull Set<@NonNull Modifier> getModifiers();
 
@@ -2,6 +2,7 @@ package net.jailgens.mirror;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
 
 /**
  * A method.
@@ -27,4 +28,501 @@ public interface Method<R extends @NonNull Object, T extends @Nullable Object> e
      * @since 0.0.0
      */
     @NonNull T invoke(@Nullable R receiver, @Nullable Object @NonNull ... arguments);
+
+    /**
+     * Invokes this method on the receiver with no arguments.
+     * <p>
+     * Equivalent to {@link #invoke(Object, Object...)}, but doesn't allocate an argument array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @return the result.
+     * @throws ClassCastException if any of the arguments could not be cast to this method's
+     * parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 0}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    @NonNull T invoke0(@Nullable R receiver);
+
+    /**
+     * Invokes this method on the receiver with a single argument.
+     * <p>
+     * Equivalent to {@link #invoke(Object, Object...)}, but doesn't allocate an argument array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @return the result.
+     * @throws ClassCastException if any of the arguments could not be cast to this method's
+     * parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 1}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    @NonNull T invoke1(@Nullable R receiver, @Nullable Object a);
+
+    /**
+     * Invokes this method on the receiver with two arguments.
+     * <p>
+     * Equivalent to {@link #invoke(Object, Object...)}, but doesn't allocate an argument array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @param b the second argument.
+     * @return the result.
+     * @throws ClassCastException if any of the arguments could not be cast to this method's
+     * parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 2}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    @NonNull T invoke2(@Nullable R receiver, @Nullable Object a, @Nullable Object b);
+
+    /**
+     * Invokes this method on the receiver with three arguments.
+     * <p>
+     * Equivalent to {@link #invoke(Object, Object...)}, but doesn't allocate an argument array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @param b the second argument.
+     * @param c the third argument.
+     * @return the result.
+     * @throws ClassCastException if any of the arguments could not be cast to this method's
+     * parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 3}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    @NonNull T invoke3(@Nullable R receiver, @Nullable Object a, @Nullable Object b, @Nullable Object c);
+
+    /**
+     * Invokes this {@code int} returning method on the receiver with the specified arguments
+     * without boxing the result.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param arguments the arguments to call this with.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code int}, or any of
+     * {@code arguments} could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code arguments != getParameters().size()}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a receiver, or
+     * {@code arguments} is {@code null}
+     * @since 0.5.0
+     */
+    int invokeInt(@Nullable R receiver, @Nullable Object @NonNull ... arguments);
+
+    /**
+     * Invokes this {@code int} returning method on the receiver with no arguments without boxing
+     * the result.
+     * <p>
+     * Equivalent to {@link #invokeInt(Object, Object...)}, but doesn't allocate an argument array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code int}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 0}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    int invokeInt0(@Nullable R receiver);
+
+    /**
+     * Invokes this {@code int} returning method on the receiver with a single argument without
+     * boxing the result.
+     * <p>
+     * Equivalent to {@link #invokeInt(Object, Object...)}, but doesn't allocate an argument array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code int}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 1}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    int invokeInt1(@Nullable R receiver, @Nullable Object a);
+
+    /**
+     * Invokes this {@code int} returning method on the receiver with two arguments without boxing
+     * the result.
+     * <p>
+     * Equivalent to {@link #invokeInt(Object, Object...)}, but doesn't allocate an argument array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @param b the second argument.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code int}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 2}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    int invokeInt2(@Nullable R receiver, @Nullable Object a, @Nullable Object b);
+
+    /**
+     * Invokes this {@code int} returning method on the receiver with three arguments without boxing
+     * the result.
+     * <p>
+     * Equivalent to {@link #invokeInt(Object, Object...)}, but doesn't allocate an argument array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @param b the second argument.
+     * @param c the third argument.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code int}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 3}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    int invokeInt3(@Nullable R receiver, @Nullable Object a, @Nullable Object b, @Nullable Object c);
+
+    /**
+     * Invokes this {@code long} returning method on the receiver with the specified arguments
+     * without boxing the result.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param arguments the arguments to call this with.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code long}, or any of
+     * {@code arguments} could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code arguments != getParameters().size()}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a receiver, or
+     * {@code arguments} is {@code null}
+     * @since 0.5.0
+     */
+    long invokeLong(@Nullable R receiver, @Nullable Object @NonNull ... arguments);
+
+    /**
+     * Invokes this {@code long} returning method on the receiver with no arguments without boxing
+     * the result.
+     * <p>
+     * Equivalent to {@link #invokeLong(Object, Object...)}, but doesn't allocate an argument array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code long}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 0}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    long invokeLong0(@Nullable R receiver);
+
+    /**
+     * Invokes this {@code long} returning method on the receiver with a single argument without
+     * boxing the result.
+     * <p>
+     * Equivalent to {@link #invokeLong(Object, Object...)}, but doesn't allocate an argument array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code long}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 1}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    long invokeLong1(@Nullable R receiver, @Nullable Object a);
+
+    /**
+     * Invokes this {@code long} returning method on the receiver with two arguments without boxing
+     * the result.
+     * <p>
+     * Equivalent to {@link #invokeLong(Object, Object...)}, but doesn't allocate an argument array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @param b the second argument.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code long}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 2}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    long invokeLong2(@Nullable R receiver, @Nullable Object a, @Nullable Object b);
+
+    /**
+     * Invokes this {@code long} returning method on the receiver with three arguments without
+     * boxing the result.
+     * <p>
+     * Equivalent to {@link #invokeLong(Object, Object...)}, but doesn't allocate an argument array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @param b the second argument.
+     * @param c the third argument.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code long}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 3}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    long invokeLong3(@Nullable R receiver, @Nullable Object a, @Nullable Object b, @Nullable Object c);
+
+    /**
+     * Invokes this {@code double} returning method on the receiver with the specified arguments
+     * without boxing the result.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param arguments the arguments to call this with.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code double}, or any of
+     * {@code arguments} could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code arguments != getParameters().size()}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a receiver, or
+     * {@code arguments} is {@code null}
+     * @since 0.5.0
+     */
+    double invokeDouble(@Nullable R receiver, @Nullable Object @NonNull ... arguments);
+
+    /**
+     * Invokes this {@code double} returning method on the receiver with no arguments without boxing
+     * the result.
+     * <p>
+     * Equivalent to {@link #invokeDouble(Object, Object...)}, but doesn't allocate an argument
+     * array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code double}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 0}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    double invokeDouble0(@Nullable R receiver);
+
+    /**
+     * Invokes this {@code double} returning method on the receiver with a single argument without
+     * boxing the result.
+     * <p>
+     * Equivalent to {@link #invokeDouble(Object, Object...)}, but doesn't allocate an argument
+     * array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code double}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 1}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    double invokeDouble1(@Nullable R receiver, @Nullable Object a);
+
+    /**
+     * Invokes this {@code double} returning method on the receiver with two arguments without
+     * boxing the result.
+     * <p>
+     * Equivalent to {@link #invokeDouble(Object, Object...)}, but doesn't allocate an argument
+     * array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @param b the second argument.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code double}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 2}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    double invokeDouble2(@Nullable R receiver, @Nullable Object a, @Nullable Object b);
+
+    /**
+     * Invokes this {@code double} returning method on the receiver with three arguments without
+     * boxing the result.
+     * <p>
+     * Equivalent to {@link #invokeDouble(Object, Object...)}, but doesn't allocate an argument
+     * array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @param b the second argument.
+     * @param c the third argument.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code double}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 3}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    double invokeDouble3(@Nullable R receiver, @Nullable Object a, @Nullable Object b, @Nullable Object c);
+
+    /**
+     * Invokes this {@code boolean} returning method on the receiver with the specified arguments
+     * without boxing the result.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param arguments the arguments to call this with.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code boolean}, or any of
+     * {@code arguments} could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code arguments != getParameters().size()}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a receiver, or
+     * {@code arguments} is {@code null}
+     * @since 0.5.0
+     */
+    boolean invokeBoolean(@Nullable R receiver, @Nullable Object @NonNull ... arguments);
+
+    /**
+     * Invokes this {@code boolean} returning method on the receiver with no arguments without
+     * boxing the result.
+     * <p>
+     * Equivalent to {@link #invokeBoolean(Object, Object...)}, but doesn't allocate an argument
+     * array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code boolean}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 0}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    boolean invokeBoolean0(@Nullable R receiver);
+
+    /**
+     * Invokes this {@code boolean} returning method on the receiver with a single argument without
+     * boxing the result.
+     * <p>
+     * Equivalent to {@link #invokeBoolean(Object, Object...)}, but doesn't allocate an argument
+     * array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code boolean}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 1}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    boolean invokeBoolean1(@Nullable R receiver, @Nullable Object a);
+
+    /**
+     * Invokes this {@code boolean} returning method on the receiver with two arguments without
+     * boxing the result.
+     * <p>
+     * Equivalent to {@link #invokeBoolean(Object, Object...)}, but doesn't allocate an argument
+     * array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @param b the second argument.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code boolean}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 2}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    boolean invokeBoolean2(@Nullable R receiver, @Nullable Object a, @Nullable Object b);
+
+    /**
+     * Invokes this {@code boolean} returning method on the receiver with three arguments without
+     * boxing the result.
+     * <p>
+     * Equivalent to {@link #invokeBoolean(Object, Object...)}, but doesn't allocate an argument
+     * array.
+     *
+     * @param receiver the receiver, may optionally be {@code null} if this has no receiver.
+     * @param a the first argument.
+     * @param b the second argument.
+     * @param c the third argument.
+     * @return the result.
+     * @throws ClassCastException if this method's return type is not {@code boolean}, or any of the
+     * arguments could not be cast to this method's parameter types.
+     * @throws IllegalArgumentException if {@code getParameters().size() != 3}.
+     * @throws InvocationException if the target method threw an exception.
+     * @throws NullPointerException if {@code receiver} is {@code null}, and this requires a
+     * receiver.
+     * @since 0.5.0
+     */
+    boolean invokeBoolean3(@Nullable R receiver, @Nullable Object a, @Nullable Object b, @Nullable Object c);
+
+    /**
+     * Checks whether this method is a bridge method generated by the compiler (for example for a
+     * method with a covariant return type).
+     *
+     * @return whether this method is a bridge method.
+     * @see java.lang.reflect.Method#isBridge()
+     * @since 0.5.0
+     */
+    @Pure
+    boolean isBridge();
+
+    /**
+     * Creates an instance of the specified functional interface that invokes this method.
+     * <p>
+     * For instance methods, the first parameter of the functional interface's method is the
+     * receiver, and the remaining parameters are the arguments. For static methods, all parameters
+     * are the arguments. Arguments and return values are cast, boxed and unboxed as necessary.
+     * <p>
+     * The instance is generated with the {@link java.lang.invoke.LambdaMetafactory}, so calling it
+     * is as fast as calling a lambda. If the declaring class is in another module than mirror
+     * (for example because it was defined by another class loader), a
+     * {@link java.lang.invoke.MethodHandleProxies} instance may be returned instead, which is
+     * much slower to call. Unlike {@link #invoke(Object, Object...)}, exceptions thrown
+     * by this method are not wrapped in an {@link InvocationException}.
+     *
+     * @param functionalInterface the functional interface.
+     * @param <F> the functional interface.
+     * @return an instance of the functional interface.
+     * @throws IllegalArgumentException if {@code functionalInterface} is not a functional
+     * interface, or its method is not compatible with this method.
+     * @throws NullPointerException if {@code functionalInterface} is {@code null}.
+     * @since 0.5.0
+     */
+    <F extends @NonNull Object> @NonNull F asFunction(@NonNull Class<@NonNull F> functionalInterface);
 }
@@ -5,7 +5,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.Pure;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -25,27 +25,63 @@ final class MethodImpl<T extends @NonNull Object, R extends @Nullable Object> im
     private final java.lang.reflect.@NonNull Method method;
     private final @NonNull AnnotationValues annotations;
     private final @NonNull List<@NonNull Parameter<?>> parameters;
+    private final @NonNull Class<?> @NonNull [] parameterTypes;
     private final @NonNull ParameterizedType<@NonNull R> returnType;
-    private final @NonNull Set<@NonNull Modifier> modifiers;
+    private final @NonNull ModifierSet modifiers;
     private final @NonNull List<@NonNull Annotation> rawAnnotations;
+    private final int hashCode;
+
+    /**
+     * The lazily resolved fixed-arity invoker (see {@link Invokers#method}).
+     */
+    private volatile @Nullable MethodHandle invoker;
+    /**
+     * The lazily resolved {@code (Object, Object[])Object} spreader of {@link #invoker}.
+     */
+    private volatile @Nullable MethodHandle spreader;
+    /**
+     * The lazily resolved fixed-arity invoker that returns the primitive return type without
+     * boxing it, used by the primitive invoke methods.
+     */
+    private volatile @Nullable MethodHandle exactInvoker;
+    /**
+     * The lazily resolved {@code (Object, Object[])returnType} spreader of {@link #exactInvoker}.
+     */
+    private volatile @Nullable MethodHandle exactSpreader;
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     @Pure
     MethodImpl(final @NonNull TypeDefinition<@NonNull T> declaringType,
                final java.lang.reflect.@NonNull Method method) {
 
+        this(declaringType, method, method.getDeclaringClass());
+    }
+
+    /**
+     * Creates a method whose return and parameter types are resolved against the specified
+     * context class (see {@link TypeResolver}).
+     */
+    @SuppressWarnings("unchecked")
+    @Pure
+    MethodImpl(final @NonNull TypeDefinition<@NonNull T> declaringType,
+               final java.lang.reflect.@NonNull Method method,
+               final @NonNull Class<?> context) {
+
         Objects.requireNonNull(declaringType, "declaringType cannot be null");
         Objects.requireNonNull(method, "method cannot be null");
 
         this.declaringType = declaringType;
         this.method = method;
-        this.annotations = Reflections.createAnnotationValues(method);
+        this.annotations = TypeDefinitionImpl.createAnnotationValues(declaringType, method);
+        this.parameterTypes = method.getParameterTypes();
         this.parameters = Arrays.stream(method.getParameters())
-                .map(ParameterImpl::new)
+                .map((parameter) -> new ParameterImpl<>(declaringType, parameter, context))
                 .collect(Collectors.toUnmodifiableList());
-        this.returnType = ParameterizedType.of((Class) method.getReturnType());
-        this.modifiers = Modifier.modifiersAsSet(method.getModifiers());
+        this.returnType = (ParameterizedType<R>) TypeResolver.resolve(context,
+                method.getGenericReturnType());
+        this.modifiers = ModifierSet.of(method.getModifiers());
         this.rawAnnotations = List.of(method.getAnnotations());
+        this.hashCode =
+                Objects.hash(declaringType, method, annotations, parameters, returnType, modifiers);
     }
 
     @Override
@@ -99,6 +135,12 @@ final class MethodImpl<T extends @NonNull Object, R extends @Nullable Object> im
         return modifiers;
     }
 
+    @Override
+    public int getModifierBits() {
+
+        return modifiers.bits();
+    }
+
     @Override
     public @NonNull TypeDefinition<@NonNull T> getDeclaringType() {
 
@@ -118,24 +160,500 @@ final class MethodImpl<T extends @NonNull Object, R extends @Nullable Object> im
 
         Objects.requireNonNull(arguments, "arguments cannot be null");
 
-        if (arguments.length != parameters.size()) {
-            throw new IllegalArgumentException("Argument length differs from parameter length (" + parameters.size() + ")");
+        checkInvocation(receiver, arguments.length);
+
+        try {
+            return (R) (Object) spreader().invokeExact((Object) receiver, arguments);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NonNull R invoke0(final @Nullable T receiver) {
+
+        checkInvocation(receiver, 0);
+
+        try {
+            return (R) (Object) invoker().invokeExact((Object) receiver);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NonNull R invoke1(final @Nullable T receiver, final @Nullable Object a) {
+
+        checkInvocation(receiver, 1);
+
+        try {
+            return (R) (Object) invoker().invokeExact((Object) receiver, a);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NonNull R invoke2(final @Nullable T receiver,
+                              final @Nullable Object a,
+                              final @Nullable Object b) {
+
+        checkInvocation(receiver, 2);
+
+        try {
+            return (R) (Object) invoker().invokeExact((Object) receiver, a, b);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NonNull R invoke3(final @Nullable T receiver,
+                              final @Nullable Object a,
+                              final @Nullable Object b,
+                              final @Nullable Object c) {
+
+        checkInvocation(receiver, 3);
+
+        try {
+            return (R) (Object) invoker().invokeExact((Object) receiver, a, b, c);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public int invokeInt(final @Nullable T receiver, final @Nullable Object @NonNull ... arguments) {
+
+        Objects.requireNonNull(arguments, "arguments cannot be null");
+
+        final MethodHandle invoker = exactSpreader(int.class);
+
+        checkInvocation(receiver, arguments.length);
+
+        try {
+            return (int) invoker.invokeExact((Object) receiver, arguments);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public int invokeInt0(final @Nullable T receiver) {
+
+        final MethodHandle invoker = exactInvoker(int.class);
+
+        checkInvocation(receiver, 0);
+
+        try {
+            return (int) invoker.invokeExact((Object) receiver);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public int invokeInt1(final @Nullable T receiver, final @Nullable Object a) {
+
+        final MethodHandle invoker = exactInvoker(int.class);
+
+        checkInvocation(receiver, 1);
+
+        try {
+            return (int) invoker.invokeExact((Object) receiver, a);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public int invokeInt2(final @Nullable T receiver,
+                          final @Nullable Object a,
+                          final @Nullable Object b) {
+
+        final MethodHandle invoker = exactInvoker(int.class);
+
+        checkInvocation(receiver, 2);
+
+        try {
+            return (int) invoker.invokeExact((Object) receiver, a, b);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public int invokeInt3(final @Nullable T receiver,
+                          final @Nullable Object a,
+                          final @Nullable Object b,
+                          final @Nullable Object c) {
+
+        final MethodHandle invoker = exactInvoker(int.class);
+
+        checkInvocation(receiver, 3);
+
+        try {
+            return (int) invoker.invokeExact((Object) receiver, a, b, c);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public long invokeLong(final @Nullable T receiver, final @Nullable Object @NonNull ... arguments) {
+
+        Objects.requireNonNull(arguments, "arguments cannot be null");
+
+        final MethodHandle invoker = exactSpreader(long.class);
+
+        checkInvocation(receiver, arguments.length);
+
+        try {
+            return (long) invoker.invokeExact((Object) receiver, arguments);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public long invokeLong0(final @Nullable T receiver) {
+
+        final MethodHandle invoker = exactInvoker(long.class);
+
+        checkInvocation(receiver, 0);
+
+        try {
+            return (long) invoker.invokeExact((Object) receiver);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public long invokeLong1(final @Nullable T receiver, final @Nullable Object a) {
+
+        final MethodHandle invoker = exactInvoker(long.class);
+
+        checkInvocation(receiver, 1);
+
+        try {
+            return (long) invoker.invokeExact((Object) receiver, a);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public long invokeLong2(final @Nullable T receiver,
+                            final @Nullable Object a,
+                            final @Nullable Object b) {
+
+        final MethodHandle invoker = exactInvoker(long.class);
+
+        checkInvocation(receiver, 2);
+
+        try {
+            return (long) invoker.invokeExact((Object) receiver, a, b);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public long invokeLong3(final @Nullable T receiver,
+                            final @Nullable Object a,
+                            final @Nullable Object b,
+                            final @Nullable Object c) {
+
+        final MethodHandle invoker = exactInvoker(long.class);
+
+        checkInvocation(receiver, 3);
+
+        try {
+            return (long) invoker.invokeExact((Object) receiver, a, b, c);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public double invokeDouble(final @Nullable T receiver, final @Nullable Object @NonNull ... arguments) {
+
+        Objects.requireNonNull(arguments, "arguments cannot be null");
+
+        final MethodHandle invoker = exactSpreader(double.class);
+
+        checkInvocation(receiver, arguments.length);
+
+        try {
+            return (double) invoker.invokeExact((Object) receiver, arguments);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public double invokeDouble0(final @Nullable T receiver) {
+
+        final MethodHandle invoker = exactInvoker(double.class);
+
+        checkInvocation(receiver, 0);
+
+        try {
+            return (double) invoker.invokeExact((Object) receiver);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public double invokeDouble1(final @Nullable T receiver, final @Nullable Object a) {
+
+        final MethodHandle invoker = exactInvoker(double.class);
+
+        checkInvocation(receiver, 1);
+
+        try {
+            return (double) invoker.invokeExact((Object) receiver, a);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public double invokeDouble2(final @Nullable T receiver,
+                                final @Nullable Object a,
+                                final @Nullable Object b) {
+
+        final MethodHandle invoker = exactInvoker(double.class);
+
+        checkInvocation(receiver, 2);
+
+        try {
+            return (double) invoker.invokeExact((Object) receiver, a, b);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public double invokeDouble3(final @Nullable T receiver,
+                                final @Nullable Object a,
+                                final @Nullable Object b,
+                                final @Nullable Object c) {
+
+        final MethodHandle invoker = exactInvoker(double.class);
+
+        checkInvocation(receiver, 3);
+
+        try {
+            return (double) invoker.invokeExact((Object) receiver, a, b, c);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
         }
+    }
+
+    @Override
+    public boolean invokeBoolean(final @Nullable T receiver, final @Nullable Object @NonNull ... arguments) {
+
+        Objects.requireNonNull(arguments, "arguments cannot be null");
+
+        final MethodHandle invoker = exactSpreader(boolean.class);
+
+        checkInvocation(receiver, arguments.length);
 
         try {
-            method.setAccessible(true);
-            return (R) method.invoke(receiver, arguments);
-        } catch (final InvocationTargetException e) {
-            throw new InvocationException(e.getTargetException());
-        } catch (final IllegalArgumentException e) {
-            throw new ClassCastException(e.getMessage());
-        } catch (final IllegalAccessException e) {
-            throw new RuntimeException(e);
-        } finally {
-            method.setAccessible(false);
+            return (boolean) invoker.invokeExact((Object) receiver, arguments);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
         }
     }
 
+    @Override
+    public boolean invokeBoolean0(final @Nullable T receiver) {
+
+        final MethodHandle invoker = exactInvoker(boolean.class);
+
+        checkInvocation(receiver, 0);
+
+        try {
+            return (boolean) invoker.invokeExact((Object) receiver);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public boolean invokeBoolean1(final @Nullable T receiver, final @Nullable Object a) {
+
+        final MethodHandle invoker = exactInvoker(boolean.class);
+
+        checkInvocation(receiver, 1);
+
+        try {
+            return (boolean) invoker.invokeExact((Object) receiver, a);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public boolean invokeBoolean2(final @Nullable T receiver,
+                                  final @Nullable Object a,
+                                  final @Nullable Object b) {
+
+        final MethodHandle invoker = exactInvoker(boolean.class);
+
+        checkInvocation(receiver, 2);
+
+        try {
+            return (boolean) invoker.invokeExact((Object) receiver, a, b);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    @Override
+    public boolean invokeBoolean3(final @Nullable T receiver,
+                                  final @Nullable Object a,
+                                  final @Nullable Object b,
+                                  final @Nullable Object c) {
+
+        final MethodHandle invoker = exactInvoker(boolean.class);
+
+        checkInvocation(receiver, 3);
+
+        try {
+            return (boolean) invoker.invokeExact((Object) receiver, a, b, c);
+        } catch (final Throwable e) {
+            throw Invokers.propagate(e);
+        }
+    }
+
+    private void checkInvocation(final @Nullable T receiver, final int argumentCount) {
+
+        if (argumentCount != parameters.size()) {
+            throw new IllegalArgumentException("Argument length differs from parameter length (" + parameters.size() + ")");
+        }
+
+        if (!isStatic()) {
+            Objects.requireNonNull(receiver, "receiver cannot be null");
+        }
+    }
+
+    @Override
+    public <F extends @NonNull Object> @NonNull F asFunction(
+            final @NonNull Class<@NonNull F> functionalInterface) {
+
+        Objects.requireNonNull(functionalInterface, "functionalInterface cannot be null");
+
+        return Invokers.function(method.getDeclaringClass(),
+                Invokers.unreflect(method),
+                functionalInterface);
+    }
+
+    private @NonNull MethodHandle invoker() {
+
+        MethodHandle invoker = this.invoker;
+
+        if (invoker == null) {
+            invoker = Invokers.method(method);
+            this.invoker = invoker;
+        }
+
+        return invoker;
+    }
+
+    private @NonNull MethodHandle exactInvoker(final @NonNull Class<?> returnType) {
+
+        if (method.getReturnType() != returnType) {
+            throw new ClassCastException("Method " + method.getName() + " returns " +
+                    method.getReturnType().getTypeName() + ", not " + returnType.getTypeName());
+        }
+
+        MethodHandle exactInvoker = this.exactInvoker;
+
+        if (exactInvoker == null) {
+            exactInvoker = Invokers.method(method, returnType);
+            this.exactInvoker = exactInvoker;
+        }
+
+        return exactInvoker;
+    }
+
+    private @NonNull MethodHandle exactSpreader(final @NonNull Class<?> returnType) {
+
+        final MethodHandle exactInvoker = exactInvoker(returnType);
+
+        MethodHandle exactSpreader = this.exactSpreader;
+
+        if (exactSpreader == null) {
+            exactSpreader = Invokers.spreader(exactInvoker, 1);
+            this.exactSpreader = exactSpreader;
+        }
+
+        return exactSpreader;
+    }
+
+    private @NonNull MethodHandle spreader() {
+
+        MethodHandle spreader = this.spreader;
+
+        if (spreader == null) {
+            spreader = Invokers.spreader(invoker(), 1);
+            this.spreader = spreader;
+        }
+
+        return spreader;
+    }
+
+    /**
+     * Checks whether this method's raw parameter types are the specified parameter types, without
+     * copying them.
+     *
+     * @param parameterTypes the parameter types.
+     * @return whether this method has the specified parameter types.
+     */
+    boolean hasParameterTypes(final @NonNull Class<?> @NonNull [] parameterTypes) {
+
+        return Arrays.equals(this.parameterTypes, parameterTypes);
+    }
+
+    @Override
+    public boolean isBridge() {
+
+        return method.isBridge();
+    }
+
+    /**
+     * Gets this method as it is inherited by the specified subclass of its declaring class, with
+     * its return and parameter types resolved against the subclass.
+     *
+     * @param subclass the subclass.
+     * @return this method if its types are the same in the subclass, otherwise a new method.
+     */
+    @NonNull MethodImpl<@NonNull T, ?> inheritedBy(final @NonNull Class<?> subclass) {
+
+        final java.lang.reflect.Parameter[] rawParameters = method.getParameters();
+        boolean same = TypeResolver.resolve(subclass, method.getGenericReturnType())
+                .equals(returnType);
+
+        for (int i = 0; same && i < rawParameters.length; i++) {
+            same = TypeResolver.resolve(subclass, rawParameters[i].getParameterizedType())
+                    .equals(parameters.get(i).getType());
+        }
+
+        if (same) {
+            return this;
+        }
+
+        return new MethodImpl<>(declaringType, method, subclass);
+    }
+
     @Override
     public boolean equals(final @Nullable Object o) {
 
@@ -149,8 +667,10 @@ final class MethodImpl<T extends @NonNull Object, R extends @Nullable Object> im
 
         MethodImpl<?, ?> other = (MethodImpl<?, ?>) o;
 
-        return declaringType.equals(other.declaringType) &&
+        // the hash codes are cached, and comparing the reflected methods is cheaper than the rest
+        return hashCode == other.hashCode &&
                 method.equals(other.method) &&
+                declaringType.equals(other.declaringType) &&
                 annotations.equals(other.annotations) &&
                 parameters.equals(other.parameters) &&
                 returnType.equals(other.returnType) &&
@@ -160,6 +680,6 @@ final class MethodImpl<T extends @NonNull Object, R extends @Nullable Object> im
     @Override
     public int hashCode() {
 
-        return Objects.hash(declaringType, method, annotations, parameters, returnType, modifiers);
+        return hashCode;
     }
 }
@@ -6,7 +6,10 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.common.returnsreceiver.qual.This;
 import org.checkerframework.dataflow.qual.SideEffectFree;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Reflects types.
@@ -55,6 +58,69 @@ public interface Mirror {
     <T extends @NonNull Object> @NonNull T createProxy(@NonNull Class<T> type,
                                                        @NonNull InvocationHandler<T> handler);
 
+    /**
+     * Removes all cached {@link TypeDefinition}s of classes loaded by the specified class loader
+     * or one of its descendants.
+     * <p>
+     * Cached type definitions of classes loaded by this mirror's class loader (or one of its
+     * descendants) never prevent their classes from being unloaded. Type definitions of classes
+     * loaded by unrelated class loaders are held until they are invalidated, so this should be
+     * called when such a class loader is discarded (e.g. when a plugin is reloaded). Type
+     * definitions that were already returned are not affected.
+     * <p>
+     * By default, this does nothing.
+     *
+     * @param classLoader the class loader.
+     * @throws NullPointerException if {@code classLoader} is {@code null}.
+     * @since 0.5.0
+     */
+    default void invalidate(final @NonNull ClassLoader classLoader) {
+
+    }
+
+    /**
+     * Finds all types, members (fields, constructors and methods) and parameters of constructors
+     * and methods reflected by this mirror that are annotated with the specified annotation.
+     * <p>
+     * Annotations are matched by their type, so an annotation type of another class loader with
+     * the same name is not matched.
+     * <p>
+     * Only cached type definitions are searched, so if caching is disabled nothing is found, and
+     * once a type definition is invalidated (or evicted and no longer referenced), its type,
+     * members and parameters are no longer found. Types that were reflected since the last call are indexed
+     * lazily, so this method materializes their members.
+     * <p>
+     * This method is thread-safe, and may be called while other threads are reflecting types.
+     * <p>
+     * By default, this returns an empty collection.
+     *
+     * @param annotationType the annotation type.
+     * @return the annotated types, members and parameters.
+     * @throws NullPointerException if {@code annotationType} is {@code null}.
+     * @since 0.5.0
+     */
+    default @NonNull Collection<@NonNull Annotated> findAnnotated(
+            final @NonNull Class<? extends @NonNull Annotation> annotationType) {
+
+        return List.of();
+    }
+
+    /**
+     * Takes a snapshot of this mirror's {@link TypeDefinition} cache statistics.
+     * <p>
+     * A caching mirror also deduplicates the {@link AnnotationValues} of the types, members and
+     * parameters it reflects, so elements with equal annotations share the same instance.
+     * <p>
+     * By default, and if caching is disabled, empty statistics are returned.
+     *
+     * @return the cache statistics.
+     * @since 0.5.0
+     */
+    default @NonNull CacheStats cacheStats() {
+
+        return CacheStatsImpl.EMPTY;
+    }
+
     /**
      * A {@link Mirror} builder.
      *
@@ -88,6 +154,40 @@ public interface Mirror {
             return this;
         }
 
+        /**
+         * Sets the maximum number of {@link TypeDefinition}s to cache.
+         * <p>
+         * When the cache grows beyond this size, the least recently used type definitions are
+         * evicted (approximately). If unspecified, the cache size is unbounded.
+         *
+         * @param maximumSize the maximum number of cached type definitions.
+         * @return this builder (for chaining).
+         * @throws IllegalArgumentException if {@code maximumSize} is negative.
+         * @since 0.5.0
+         */
+        default @NonNull @This Builder maximumSize(final long maximumSize) {
+
+            return this;
+        }
+
+        /**
+         * Sets the maximum total weight of the cached {@link TypeDefinition}s.
+         * <p>
+         * A type definition's weight is one more than the number of fields, constructors and
+         * methods its class declares, which approximates how much memory it uses. When the total
+         * weight grows beyond this, the least recently used type definitions are evicted
+         * (approximately). If unspecified, the total weight is unbounded.
+         *
+         * @param maximumWeight the maximum total weight.
+         * @return this builder (for chaining).
+         * @throws IllegalArgumentException if {@code maximumWeight} is negative.
+         * @since 0.5.0
+         */
+        default @NonNull @This Builder maximumWeight(final long maximumWeight) {
+
+            return this;
+        }
+
         /**
          * Builds the mirror.
          *
@@ -4,10 +4,15 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.common.returnsreceiver.qual.This;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * The {@link Mirror} implementation.
@@ -21,52 +26,180 @@ final class MirrorImpl implements Mirror {
      */
     private static class Instance {
 
-        private static final @NonNull Mirror INSTANCE = new MirrorImpl(true, DEFAULT_CLASS_LOADER);
+        private static final @NonNull Mirror INSTANCE = new MirrorImpl(true, DEFAULT_CLASS_LOADER, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * A private inner class allowing for lazy initialization of the non-caching mirror.
+     */
+    private static class Uncached {
+
+        private static final @NonNull MirrorImpl INSTANCE = new MirrorImpl(false, DEFAULT_CLASS_LOADER, Long.MAX_VALUE, Long.MAX_VALUE);
     }
 
     private static final @NonNull ClassLoader DEFAULT_CLASS_LOADER = ClassLoader.getSystemClassLoader();
     private static final @NonNull Object @NonNull [] EMPTY_OBJECT_ARRAY = new Object[0];
 
-    private final @NonNull Map<
-            @NonNull Class<? extends @NonNull Object>,
-            @NonNull TypeDefinition<? extends @NonNull Object>
-            > typeDefinitionCache;
-    private final boolean cachingEnabled;
+    /**
+     * The type definition cache, or {@code null} if caching is disabled.
+     */
+    private final @Nullable TypeDefinitionCache typeDefinitionCache;
+    /**
+     * The index of the cached type definitions, or {@code null} if caching is disabled (uncached
+     * type definitions aren't retained, so they couldn't be found anyway).
+     */
+    private final @Nullable AnnotationIndex annotationIndex;
+    /**
+     * The canonical annotation values of the reflected elements, or {@code null} if caching is
+     * disabled.
+     */
+    private final @Nullable Interner<@NonNull AnnotationValues> annotationValues;
+    private final @NonNull LongAdder annotationValuesCount = new LongAdder();
+    private final @NonNull LongAdder deduplicatedAnnotationValuesCount = new LongAdder();
 
     private final @NonNull ClassLoader classLoader;
 
-    private MirrorImpl(final boolean cache, final @NonNull ClassLoader classLoader) {
+    private MirrorImpl(final boolean cache,
+                       final @NonNull ClassLoader classLoader,
+                       final long maximumSize,
+                       final long maximumWeight) {
 
         if (cache) {
-            this.typeDefinitionCache = new WeakHashMap<>();
+            this.typeDefinitionCache =
+                    new TypeDefinitionCache(this, classLoader, maximumSize, maximumWeight);
+            this.annotationIndex = new AnnotationIndex();
+            this.annotationValues = new Interner<>();
         } else {
-            this.typeDefinitionCache = Map.of();
+            this.typeDefinitionCache = null;
+            this.annotationIndex = null;
+            this.annotationValues = null;
         }
 
-        this.cachingEnabled = cache;
         this.classLoader = classLoader;
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Gets a shared mirror that doesn't cache, for type definitions that outlived their mirror.
+     *
+     * @return the mirror.
+     */
+    static @NonNull MirrorImpl uncached() {
+
+        return Uncached.INSTANCE;
+    }
+
     @Override
     public <T extends @NonNull Object> @NonNull TypeDefinition<@NonNull T> reflect(
             final @NonNull Class<@NonNull T> cls) {
 
-        final TypeDefinition<?> cachedTypeDefinition = typeDefinitionCache.get(cls);
+        Objects.requireNonNull(cls, "cls cannot be null");
+
+        if (typeDefinitionCache == null) {
+            return new TypeDefinitionImpl<>(this, cls);
+        }
+
+        return typeDefinitionCache.get(cls);
+    }
+
+    @Override
+    public void invalidate(final @NonNull ClassLoader classLoader) {
+
+        Objects.requireNonNull(classLoader, "classLoader cannot be null");
 
-        if (cachedTypeDefinition != null) {
-            return (TypeDefinition<T>) cachedTypeDefinition;
+        if (typeDefinitionCache != null) {
+            typeDefinitionCache.invalidate(classLoader);
         }
 
+        if (annotationIndex != null) {
+            annotationIndex.invalidate(classLoader);
+        }
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Annotated> findAnnotated(
+            final @NonNull Class<? extends @NonNull Annotation> annotationType) {
+
+        Objects.requireNonNull(annotationType, "annotationType cannot be null");
+
+        if (annotationIndex == null) {
+            return List.of();
+        }
+
+        return annotationIndex.find(annotationType);
+    }
+
+    /**
+     * Gets this mirror's annotation index.
+     *
+     * @return the annotation index, or {@code null} if caching is disabled.
+     */
+    @Nullable AnnotationIndex annotationIndex() {
+
+        return annotationIndex;
+    }
+
+    /**
+     * Creates a type definition for the cache, and adds it to the annotation index.
+     *
+     * @param cls the class.
+     * @param <T> the type of the class.
+     * @return the type definition.
+     */
+    <T extends @NonNull Object> @NonNull TypeDefinition<@NonNull T> createTypeDefinition(
+            final @NonNull Class<@NonNull T> cls) {
+
         final TypeDefinition<T> typeDefinition = new TypeDefinitionImpl<>(this, cls);
 
-        if (cachingEnabled) {
-            typeDefinitionCache.put(cls, typeDefinition);
+        if (annotationIndex != null) {
+            annotationIndex.add(typeDefinition);
         }
 
         return typeDefinition;
     }
 
+    /**
+     * Creates the annotation values of the specified element.
+     * <p>
+     * If caching is enabled, the annotation values are deduplicated, so elements with equal
+     * annotations share the same instance.
+     *
+     * @param annotatedElement the element.
+     * @return the annotation values.
+     */
+    @NonNull AnnotationValues createAnnotationValues(
+            final @NonNull AnnotatedElement annotatedElement) {
+
+        final AnnotationValues values = Reflections.createAnnotationValues(annotatedElement);
+
+        if (annotationValues == null) {
+            return values;
+        }
+
+        annotationValuesCount.increment();
+
+        // the empty annotation values are always shared
+        final AnnotationValues canonical = values == AnnotationValues.empty()
+                ? values
+                : annotationValues.intern(values);
+
+        if (canonical != values || canonical == AnnotationValues.empty()) {
+            deduplicatedAnnotationValuesCount.increment();
+        }
+
+        return canonical;
+    }
+
+    @Override
+    public @NonNull CacheStats cacheStats() {
+
+        if (typeDefinitionCache == null) {
+            return CacheStatsImpl.EMPTY;
+        }
+
+        return typeDefinitionCache.stats(annotationValuesCount.sum(),
+                deduplicatedAnnotationValuesCount.sum());
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends @NonNull Object> @NonNull T createProxy(
@@ -77,11 +210,17 @@ final class MirrorImpl implements Mirror {
         Objects.requireNonNull(handler, "handler cannot be null");
 
         final TypeDefinition<T> typeDefinition = reflect(type);
+        // inherited methods (e.g. from Object) aren't declared by the type, so they are created
+        // once per proxy instead
+        final Map<java.lang.reflect.Method, Method<T, ?>> inheritedMethods =
+                new ConcurrentHashMap<>();
 
         return (T) Proxy.newProxyInstance(classLoader,
                 new Class<?>[] {type},
                 (proxy, method, args) -> handler.invoke((T) proxy,
-                        new MethodImpl<>(typeDefinition, method),
+                        typeDefinition.getMethod(method.getName(), method.getParameterTypes())
+                                .orElseGet(() -> inheritedMethods.computeIfAbsent(method,
+                                        (key) -> new MethodImpl<>(typeDefinition, key))),
                         args == null ?
                                 EMPTY_OBJECT_ARRAY :
                                 args));
@@ -91,6 +230,8 @@ final class MirrorImpl implements Mirror {
 
         private ClassLoader classLoader;
         private boolean cache = true;
+        private long maximumSize = Long.MAX_VALUE;
+        private long maximumWeight = Long.MAX_VALUE;
 
         @Override
         public @NonNull @This Builder classLoader(@Nullable ClassLoader classLoader) {
@@ -106,14 +247,42 @@ final class MirrorImpl implements Mirror {
             return this;
         }
 
+        @Override
+        public @NonNull @This Builder maximumSize(final long maximumSize) {
+
+            if (maximumSize < 0) {
+                throw new IllegalArgumentException("maximumSize cannot be negative");
+            }
+
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        @Override
+        public @NonNull @This Builder maximumWeight(final long maximumWeight) {
+
+            if (maximumWeight < 0) {
+                throw new IllegalArgumentException("maximumWeight cannot be negative");
+            }
+
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
         @Override
         public @NonNull Mirror build() {
 
-            if (classLoader == null && cache) {
+            if (classLoader == null &&
+                    cache &&
+                    maximumSize == Long.MAX_VALUE &&
+                    maximumWeight == Long.MAX_VALUE) {
                 return Instance.INSTANCE;
             }
 
-            return new MirrorImpl(cache, classLoader == null ? DEFAULT_CLASS_LOADER : classLoader);
+            return new MirrorImpl(cache,
+                    classLoader == null ? DEFAULT_CLASS_LOADER : classLoader,
+                    maximumSize,
+                    maximumWeight);
         }
     }
 }
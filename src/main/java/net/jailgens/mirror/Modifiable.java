@@ -0,0 +1,117 @@
+package net.jailgens.mirror;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.dataflow.qual.Pure;
+
+import java.util.Set;
+
+/**
+ * Something that has modifiers, like a type, member or parameter.
+ *
+ * @author Sparky983
+ * @since 0.5.0
+ */
+public interface Modifiable {
+
+    /**
+     * Gets all the modifiers.
+     *
+     * @return all the modifiers.
+     * @since 0.5.0
+     */
+    @Pure
+    @NonNull Set<@NonNull Modifier> getModifiers();
+
+    /**
+     * Gets the modifiers as bits, as defined by {@link java.lang.reflect.Modifier}.
+     * <p>
+     * Only bits of a {@link Modifier} are set, so this is equivalent to {@link #getModifiers()},
+     * but checking a bit doesn't need a set lookup (see {@link Modifier#in(int)}).
+     *
+     * @return the modifier bits.
+     * @since 0.5.0
+     */
+    @Pure
+    default int getModifierBits() {
+
+        int bits = 0;
+
+        for (final Modifier modifier : getModifiers()) {
+            bits |= modifier.getBit();
+        }
+
+        return bits;
+    }
+
+    /**
+     * Returns whether this has the {@code public} modifier.
+     *
+     * @return whether this is public.
+     * @since 0.5.0
+     */
+    @Pure
+    default boolean isPublic() {
+
+        return Modifier.PUBLIC.in(getModifierBits());
+    }
+
+    /**
+     * Returns whether this has the {@code protected} modifier.
+     *
+     * @return whether this is protected.
+     * @since 0.5.0
+     */
+    @Pure
+    default boolean isProtected() {
+
+        return Modifier.PROTECTED.in(getModifierBits());
+    }
+
+    /**
+     * Returns whether this has the {@code private} modifier.
+     *
+     * @return whether this is private.
+     * @since 0.5.0
+     */
+    @Pure
+    default boolean isPrivate() {
+
+        return Modifier.PRIVATE.in(getModifierBits());
+    }
+
+    /**
+     * Returns whether this has the {@code static} modifier.
+     *
+     * @return whether this is static.
+     * @since 0.5.0
+     */
+    @Pure
+    default boolean isStatic() {
+
+        return Modifier.STATIC.in(getModifierBits());
+    }
+
+    /**
+     * Returns whether this has the {@code final} modifier.
+     *
+     * @return whether this is final.
+     * @since 0.5.0
+     */
+    @Pure
+    default boolean isFinal() {
+
+        return Modifier.FINAL.in(getModifierBits());
+    }
+
+    /**
+     * Returns whether this has the {@code abstract} modifier.
+     *
+     * @return whether this is abstract.
+     * @since 0.5.0
+     */
+    @Pure
+    default boolean isAbstract() {
+
+        return Modifier.ABSTRACT.in(getModifierBits());
+    }
+}
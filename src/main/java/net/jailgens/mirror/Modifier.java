@@ -2,8 +2,6 @@ package net.jailgens.mirror;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -98,22 +96,19 @@ public enum Modifier {
         this.modifier = modifier;
     }
 
-    private static final class Modifiers {
-
-        private static final Modifier[] VALUES = Modifier.values();
-    }
-
     static @NonNull Set<@NonNull Modifier> modifiersAsSet(final int modifiers) {
 
-        final Set<Modifier> modifiersSet = new HashSet<>();
+        return ModifierSet.of(modifiers);
+    }
 
-        for (final Modifier modifier : Modifiers.VALUES) {
-            if (modifier.in(modifiers)) {
-                modifiersSet.add(modifier);
-            }
-        }
+    /**
+     * Gets the bit of this modifier, as defined by {@link java.lang.reflect.Modifier}.
+     *
+     * @return the bit of this modifier.
+     */
+    int getBit() {
 
-        return Collections.unmodifiableSet(modifiersSet);
+        return modifier;
     }
 
     /**
@@ -0,0 +1,157 @@
+package net.jailgens.mirror;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of modifiers, backed by the modifier bits of {@link java.lang.reflect.Modifier}.
+ * <p>
+ * There is one shared instance per combination of modifiers, so no matter how many members are
+ * reflected, only a handful of modifier sets exist.
+ *
+ * @author Sparky983
+ */
+final class ModifierSet extends AbstractSet<@NonNull Modifier> {
+
+    private static final @NonNull Modifier @NonNull [] VALUES = Modifier.values();
+    /**
+     * The bits of all modifiers.
+     */
+    private static final int MASK;
+
+    static {
+        int mask = 0;
+
+        for (final Modifier modifier : VALUES) {
+            mask |= modifier.getBit();
+        }
+
+        MASK = mask;
+    }
+
+    /**
+     * The modifier sets by their bits, created when they are first needed. Racing threads may
+     * create the same set twice, which is harmless since sets are immutable.
+     */
+    private static final @Nullable ModifierSet @NonNull [] SETS = new ModifierSet[MASK + 1];
+
+    private final int bits;
+    private final int size;
+    private final int hashCode;
+
+    private ModifierSet(final int bits) {
+
+        this.bits = bits;
+        this.size = Integer.bitCount(bits);
+
+        int hashCode = 0;
+
+        for (final Modifier modifier : VALUES) {
+            if (modifier.in(bits)) {
+                hashCode += modifier.hashCode();
+            }
+        }
+
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * Gets the modifier set of the specified modifier bits. Bits that don't belong to a
+     * {@link Modifier} are ignored.
+     *
+     * @param modifiers the modifier bits.
+     * @return the modifier set.
+     */
+    static @NonNull ModifierSet of(final int modifiers) {
+
+        final int bits = modifiers & MASK;
+        ModifierSet set = SETS[bits];
+
+        if (set == null) {
+            set = new ModifierSet(bits);
+            SETS[bits] = set;
+        }
+
+        return set;
+    }
+
+    /**
+     * Gets the modifier bits of this set.
+     *
+     * @return the modifier bits.
+     */
+    int bits() {
+
+        return bits;
+    }
+
+    @Override
+    public boolean contains(final @Nullable Object o) {
+
+        return o instanceof Modifier && ((Modifier) o).in(bits);
+    }
+
+    @Override
+    public int size() {
+
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return bits == 0;
+    }
+
+    @Override
+    public @NonNull Iterator<@NonNull Modifier> iterator() {
+
+        return new Iterator<>() {
+
+            private int remaining = bits;
+
+            @Override
+            public boolean hasNext() {
+
+                return remaining != 0;
+            }
+
+            @Override
+            public @NonNull Modifier next() {
+
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+
+                for (final Modifier modifier : VALUES) {
+                    if (modifier.in(remaining)) {
+                        remaining &= ~modifier.getBit();
+                        return modifier;
+                    }
+                }
+
+                throw new AssertionError();
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+
+        if (o instanceof ModifierSet) {
+            return bits == ((ModifierSet) o).bits;
+        }
+
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return hashCode;
+    }
+}
@@ -13,7 +13,7 @@ import java.util.Set;
  * @param <T> the type of the parameter.
  * @since 0.0.0
  */
-public interface Parameter<T extends @Nullable Object> extends Annotated, Typed<@NonNull T> {
+public interface Parameter<T extends @Nullable Object> extends Annotated, Modifiable, Typed<@NonNull T> {
 
     /**
      * Gets this member's name.
@@ -30,6 +30,7 @@ public interface Parameter<T extends @Nullable Object> extends Annotated, Typed<
      * @return all this member's modifiers.
      * @since 0.0.0
      */
+    @Override
     @Pure
     @NonNull Set<@NonNull Modifier> getModifiers();
 }
@@ -19,21 +19,38 @@ final class ParameterImpl<T extends @Nullable Object> implements Parameter<@NonN
 
     private final java.lang.reflect.@NonNull Parameter parameter;
     private final @NonNull AnnotationValues annotations;
-    private final @NonNull Set<@NonNull Modifier> modifiers;
+    private final @NonNull ModifierSet modifiers;
     private final @NonNull ParameterizedType<@NonNull T> type;
     private final @NonNull List<@NonNull Annotation> rawAnnotations;
+    private final int hashCode;
 
-    @SuppressWarnings({"rawtypes", "unchecked"})
     @Pure
-    ParameterImpl(final java.lang.reflect.@NonNull Parameter parameter) {
+    ParameterImpl(final @NonNull TypeDefinition<?> declaringType,
+                  final java.lang.reflect.@NonNull Parameter parameter) {
 
+        this(declaringType, parameter, parameter.getDeclaringExecutable().getDeclaringClass());
+    }
+
+    /**
+     * Creates a parameter whose type is resolved against the specified context class (see
+     * {@link TypeResolver}).
+     */
+    @SuppressWarnings("unchecked")
+    @Pure
+    ParameterImpl(final @NonNull TypeDefinition<?> declaringType,
+                  final java.lang.reflect.@NonNull Parameter parameter,
+                  final @NonNull Class<?> context) {
+
+        Objects.requireNonNull(declaringType, "declaringType cannot be null");
         Objects.requireNonNull(parameter, "parameter cannot be null");
 
         this.parameter = parameter;
-        this.annotations = Reflections.createAnnotationValues(parameter);
-        this.modifiers = Modifier.modifiersAsSet(parameter.getModifiers());
-        this.type = ParameterizedType.of((Class) parameter.getType());
+        this.annotations = TypeDefinitionImpl.createAnnotationValues(declaringType, parameter);
+        this.modifiers = ModifierSet.of(parameter.getModifiers());
+        this.type = (ParameterizedType<T>) TypeResolver.resolve(context,
+                parameter.getParameterizedType());
         this.rawAnnotations = List.of(parameter.getAnnotations());
+        this.hashCode = Objects.hash(parameter, annotations, modifiers, type);
     }
 
     @Override
@@ -69,6 +86,12 @@ final class ParameterImpl<T extends @Nullable Object> implements Parameter<@NonN
         return modifiers;
     }
 
+    @Override
+    public int getModifierBits() {
+
+        return modifiers.bits();
+    }
+
     @Override
     public @NonNull ParameterizedType<@NonNull T> getType() {
 
@@ -94,7 +117,8 @@ final class ParameterImpl<T extends @Nullable Object> implements Parameter<@NonN
 
         ParameterImpl<?> other = (ParameterImpl<?>) o;
 
-        return parameter.equals(other.parameter) &&
+        return hashCode == other.hashCode &&
+                parameter.equals(other.parameter) &&
                 annotations.equals(other.annotations) &&
                 modifiers.equals(other.modifiers) &&
                 type.equals(other.type);
@@ -103,6 +127,6 @@ final class ParameterImpl<T extends @Nullable Object> implements Parameter<@NonN
     @Override
     public int hashCode() {
 
-        return Objects.hash(parameter, annotations, modifiers, type);
+        return hashCode;
     }
 }
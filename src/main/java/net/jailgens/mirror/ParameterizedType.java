@@ -41,7 +41,8 @@ public interface ParameterizedType<T extends @Nullable Object> extends Annotated
             final @NonNull Class<@NonNull T> rawType,
             final @NonNull ParameterizedType<? extends @NonNull Object> @NonNull ... typeArguments) {
 
-        return new ParameterizedTypeImpl<>(annotations, rawType, typeArguments);
+        return ParameterizedTypeImpl.intern(
+                new ParameterizedTypeImpl<>(annotations, rawType, typeArguments));
     }
 
     /**
@@ -127,7 +128,7 @@ public interface ParameterizedType<T extends @Nullable Object> extends Annotated
             final @NonNull AnnotationValues annotations,
             final @NonNull Class<@NonNull T> rawType) {
 
-        return new ParameterizedTypeImpl<>(annotations, rawType);
+        return ParameterizedTypeImpl.intern(new ParameterizedTypeImpl<>(annotations, rawType));
     }
 
     /**
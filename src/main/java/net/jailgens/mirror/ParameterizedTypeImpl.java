@@ -12,16 +12,30 @@ import java.util.StringJoiner;
 
 /**
  * The default {@link ParameterizedType} implementation.
+ * <p>
+ * Instances created by the {@link ParameterizedType} factories are
+ * {@linkplain #intern(ParameterizedTypeImpl) interned}, so structurally equal types are the same
+ * instance, and equality checks are mostly identity checks. Hash codes are computed once, when
+ * the type is created.
  *
  * @author Sparky983
  * @param <T> the type.
  */
 final class ParameterizedTypeImpl<T extends @Nullable Object> implements ParameterizedType<@NonNull T> {
 
+    private static final @NonNull Interner<@NonNull ParameterizedTypeImpl<?>> INTERNER =
+            new Interner<>();
+
     private final @NonNull AnnotationValues annotations;
     private final @NonNull Class<@NonNull T> rawType;
     private final @NonNull List<@NonNull ParameterizedType<? extends @NonNull Object>>
             typeArguments;
+    private final int hashCode;
+    /**
+     * Whether this is the canonical instance of this type. Set after this type is published, so
+     * other threads may not see it yet, which only means they fall back to a structural check.
+     */
+    private boolean canonical;
 
     @SafeVarargs
     @Pure
@@ -40,6 +54,7 @@ final class ParameterizedTypeImpl<T extends @Nullable Object> implements Paramet
         this.annotations = annotations;
         this.rawType = rawType;
         this.typeArguments = List.of(typeArguments);
+        this.hashCode = Objects.hash(annotations, rawType, this.typeArguments);
     }
 
     /**
@@ -55,6 +70,27 @@ final class ParameterizedTypeImpl<T extends @Nullable Object> implements Paramet
         this.annotations = annotations;
         this.rawType = rawType;
         this.typeArguments = List.of();
+        this.hashCode = Objects.hash(annotations, rawType, typeArguments);
+    }
+
+    /**
+     * Gets the canonical instance of the specified type.
+     *
+     * @param type the type.
+     * @param <T> the type.
+     * @return the canonical instance.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends @Nullable Object> @NonNull ParameterizedTypeImpl<@NonNull T> intern(
+            final @NonNull ParameterizedTypeImpl<@NonNull T> type) {
+
+        final ParameterizedTypeImpl<T> canonical = (ParameterizedTypeImpl<T>) INTERNER.intern(type);
+
+        if (canonical == type) {
+            type.canonical = true;
+        }
+
+        return canonical;
     }
 
     @Override
@@ -82,7 +118,14 @@ final class ParameterizedTypeImpl<T extends @Nullable Object> implements Paramet
             return true;
         }
 
-        if (!(obj instanceof ParameterizedType)) {
+        if (obj instanceof ParameterizedTypeImpl) {
+            final ParameterizedTypeImpl<?> that = (ParameterizedTypeImpl<?>) obj;
+
+            // there is only one canonical instance of each type
+            if (hashCode != that.hashCode || (canonical && that.canonical)) {
+                return false;
+            }
+        } else if (!(obj instanceof ParameterizedType)) {
             return false;
         }
 
@@ -96,7 +139,7 @@ final class ParameterizedTypeImpl<T extends @Nullable Object> implements Paramet
     @Override
     public int hashCode() {
 
-        return Objects.hash(annotations, rawType, typeArguments);
+        return hashCode;
     }
 
     @Override
@@ -2,9 +2,11 @@ package net.jailgens.mirror;
 
 import org.checkerframework.checker.lock.qual.NewObject;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.SideEffectFree;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.AnnotatedElement;
 import java.util.Objects;
 
@@ -15,6 +17,19 @@ import java.util.Objects;
  */
 final class Reflections {
 
+    private static final @NonNull ClassValue<MethodHandles.@NonNull Lookup> LOOKUPS =
+            new ClassValue<>() {
+                @Override
+                protected MethodHandles.@NonNull Lookup computeValue(final @NonNull Class<?> cls) {
+
+                    try {
+                        return MethodHandles.privateLookupIn(cls, MethodHandles.lookup());
+                    } catch (final IllegalAccessException e) {
+                        return MethodHandles.publicLookup();
+                    }
+                }
+            };
+
     private Reflections() {
 
     }
@@ -27,34 +42,52 @@ final class Reflections {
 
         final AnnotationValues.Builder builder = AnnotationValues.builder();
 
-        try {
-            for (final Annotation annotation : annotatedElement.getDeclaredAnnotations()) {
-                final Class<? extends Annotation> annotationType = annotation.annotationType();
-
-                builder.annotate(annotationType);
-
-                for (final java.lang.reflect.Method elementMethod : annotationType.getDeclaredMethods()) {
-                    final Class<?> returnType = elementMethod.getReturnType();
-                    final Class<?> elementType = returnType.isArray() ?
-                            returnType.getComponentType().isEnum() ?
-                                    Enum[].class :
-                                    returnType
-                            : returnType.isEnum() ?
-                                    Enum.class :
-                                    returnType;
-                            elementMethod.getReturnType();
-                    final java.lang.reflect.Method valueMethod =
-                            AnnotationValues.Builder.class.getMethod("value", AnnotationElement.class, elementType);
-
-                    valueMethod.invoke(builder,
-                            AnnotationElement.of(annotationType, elementMethod.getName()),
-                            elementMethod.invoke(annotation));
-                }
-            }
-        } catch (final ReflectiveOperationException e) {
-            throw new RuntimeException(e);
+        for (final Annotation annotation : annotatedElement.getDeclaredAnnotations()) {
+            AnnotationExtractor.of(annotation.annotationType()).extract(annotation, builder);
         }
 
         return builder.build();
     }
+
+    /**
+     * Returns a lookup with private access to the specified class.
+     * <p>
+     * If private access cannot be obtained (the class' package isn't open to mirror), a lookup
+     * that can only access public members is returned instead.
+     * <p>
+     * The lookup is created once per class and shared between threads. Lookups are immutable, so
+     * unlike {@link java.lang.reflect.AccessibleObject#setAccessible(boolean)} there is no shared
+     * state that could be changed while another thread is using it.
+     *
+     * @param cls the class.
+     * @return a lookup with private access to the specified class.
+     */
+    @SideEffectFree
+    static MethodHandles.@NonNull Lookup lookup(final @NonNull Class<?> cls) {
+
+        Objects.requireNonNull(cls, "cls cannot be null");
+
+        return LOOKUPS.get(cls);
+    }
+
+    /**
+     * Checks whether the specified class loader is the specified ancestor, or one of its
+     * descendants.
+     *
+     * @param classLoader the class loader, {@code null} for the bootstrap class loader.
+     * @param ancestor the ancestor.
+     * @return whether {@code classLoader} is {@code ancestor} or one of its descendants.
+     */
+    static boolean isSameOrDescendant(@Nullable ClassLoader classLoader,
+                                      final @NonNull ClassLoader ancestor) {
+
+        while (classLoader != null) {
+            if (classLoader == ancestor) {
+                return true;
+            }
+            classLoader = classLoader.getParent();
+        }
+
+        return false;
+    }
 }
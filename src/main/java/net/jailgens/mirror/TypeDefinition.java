@@ -4,9 +4,19 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.Pure;
 
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A type definition.
@@ -15,7 +25,7 @@ import java.util.Set;
  * @param <T> The type.
  * @since 0.0.0
  */
-public interface TypeDefinition<T extends @NonNull Object> extends Annotated {
+public interface TypeDefinition<T extends @NonNull Object> extends Annotated, Modifiable {
 
     /**
      * Returns whether the type definition defines a class.
@@ -54,6 +64,7 @@ public interface TypeDefinition<T extends @NonNull Object> extends Annotated {
      * @return all this class' modifiers.
      * @since 0.0.0
      */
+    @Override
     @Pure
     @NonNull Set<@NonNull Modifier> getModifiers();
 
@@ -93,6 +104,76 @@ public interface TypeDefinition<T extends @NonNull Object> extends Annotated {
     @Pure
     @NonNull Collection<@NonNull Method<@NonNull T, ? extends @Nullable Object>> getMethods();
 
+    /**
+     * Gets this type's field with the specified name.
+     *
+     * @param name the field's name.
+     * @return the field, or an empty optional if this type doesn't declare a field with the
+     * specified name.
+     * @throws NullPointerException if {@code name} is {@code null}.
+     * @since 0.5.0
+     */
+    @Pure
+    default @NonNull Optional<@NonNull Field<@NonNull T, ? extends @NonNull Object>> getField(
+            final @NonNull String name) {
+
+        Objects.requireNonNull(name, "name cannot be null");
+
+        return getFields().stream()
+                .filter((field) -> field.getName().equals(name))
+                .findFirst();
+    }
+
+    /**
+     * Gets this type's constructor with the specified parameter types.
+     *
+     * @param parameterTypes the constructor's raw parameter types.
+     * @return the constructor, or an empty optional if this type doesn't declare a constructor
+     * with the specified parameter types.
+     * @throws NullPointerException if {@code parameterTypes} or any of its elements are
+     * {@code null}.
+     * @since 0.5.0
+     */
+    @Pure
+    default @NonNull Optional<@NonNull Constructor<@NonNull T>> getConstructor(
+            final @NonNull Class<?> @NonNull ... parameterTypes) {
+
+        Objects.requireNonNull(parameterTypes, "parameterTypes cannot be null");
+
+        return getConstructors().stream()
+                .filter((constructor) -> hasParameterTypes(constructor, parameterTypes))
+                .findFirst();
+    }
+
+    /**
+     * Gets this type's method with the specified name and parameter types.
+     * <p>
+     * If this type declares more than one such method (which happens when the compiler generates
+     * a bridge method for a method with a covariant return type), the method that isn't a bridge
+     * method is returned.
+     *
+     * @param name the method's name.
+     * @param parameterTypes the method's raw parameter types.
+     * @return the method, or an empty optional if this type doesn't declare a method with the
+     * specified name and parameter types.
+     * @throws NullPointerException if {@code name}, {@code parameterTypes} or any of its elements
+     * are {@code null}.
+     * @since 0.5.0
+     */
+    @Pure
+    default @NonNull Optional<@NonNull Method<@NonNull T, ? extends @Nullable Object>> getMethod(
+            final @NonNull String name,
+            final @NonNull Class<?> @NonNull ... parameterTypes) {
+
+        Objects.requireNonNull(name, "name cannot be null");
+        Objects.requireNonNull(parameterTypes, "parameterTypes cannot be null");
+
+        return getMethods().stream()
+                .filter((method) -> method.getName().equals(name))
+                .filter((method) -> hasParameterTypes(method, parameterTypes))
+                .min((a, b) -> Boolean.compare(a.isBridge(), b.isBridge()));
+    }
+
     /**
      * Gets this type's members.
      *
@@ -102,6 +183,48 @@ public interface TypeDefinition<T extends @NonNull Object> extends Annotated {
     @Pure
     @NonNull Collection<@NonNull Member<@NonNull T>> getMembers();
 
+    /**
+     * Gets this type's members (fields, constructors and methods) that are annotated with the
+     * specified annotation.
+     *
+     * @param annotationType the annotation type.
+     * @return the members annotated with {@code annotationType}.
+     * @throws NullPointerException if {@code annotationType} is {@code null}.
+     * @since 0.5.0
+     */
+    @Pure
+    default @NonNull Collection<@NonNull Member<@NonNull T>> getMembersAnnotatedWith(
+            final @NonNull Class<? extends @NonNull Annotation> annotationType) {
+
+        Objects.requireNonNull(annotationType, "annotationType cannot be null");
+
+        return getMembers().stream()
+                .filter((member) -> member instanceof Annotated &&
+                        ((Annotated) member).getRawAnnotation(annotationType) != null)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Gets the parameters of this type's constructors and methods that are annotated with the
+     * specified annotation.
+     *
+     * @param annotationType the annotation type.
+     * @return the parameters annotated with {@code annotationType}.
+     * @throws NullPointerException if {@code annotationType} is {@code null}.
+     * @since 0.5.0
+     */
+    @Pure
+    default @NonNull Collection<@NonNull Parameter<? extends @NonNull Object>> getParametersAnnotatedWith(
+            final @NonNull Class<? extends @NonNull Annotation> annotationType) {
+
+        Objects.requireNonNull(annotationType, "annotationType cannot be null");
+
+        return Stream.concat(getConstructors().stream(), getMethods().stream())
+                .flatMap((invokable) -> invokable.getParameters().stream())
+                .filter((parameter) -> parameter.getRawAnnotation(annotationType) != null)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
     /**
      * Gets this type's inner types.
      *
@@ -137,4 +260,189 @@ public interface TypeDefinition<T extends @NonNull Object> extends Annotated {
 
         return null;
     }
+
+    /**
+     * Gets this type's direct superclass.
+     *
+     * @return this type's superclass, or {@code null} if this type is an interface, a primitive
+     * type or {@link Object}.
+     * @since 0.5.0
+     */
+    @Pure
+    default @Nullable TypeDefinition<? super @NonNull T> getSuperType() {
+
+        return null;
+    }
+
+    /**
+     * Gets the interfaces this type directly implements (or extends, if this type is an
+     * interface), in declaration order.
+     *
+     * @return this type's direct interfaces.
+     * @since 0.5.0
+     */
+    @Pure
+    default @NonNull List<@NonNull TypeDefinition<? super @NonNull T>> getInterfaces() {
+
+        return List.of();
+    }
+
+    /**
+     * Gets all of this type's supertypes.
+     * <p>
+     * The supertypes are linearized: first all superclasses, from the direct superclass up to
+     * {@link Object}, then all superinterfaces, where every interface comes before the interfaces
+     * it extends. Each supertype is only listed once.
+     *
+     * @return this type's supertypes.
+     * @since 0.5.0
+     */
+    @Pure
+    default @NonNull List<@NonNull TypeDefinition<? super @NonNull T>> getAllSuperTypes() {
+
+        final Set<TypeDefinition<? super T>> classes = new LinkedHashSet<>();
+        final Set<TypeDefinition<? super T>> interfaces = new LinkedHashSet<>();
+        final TypeDefinition<? super T> superType = getSuperType();
+
+        if (superType != null) {
+            classes.add(superType);
+
+            for (final TypeDefinition<?> type : superType.getAllSuperTypes()) {
+                @SuppressWarnings("unchecked")
+                final TypeDefinition<? super T> superTypeOfT = (TypeDefinition<? super T>) type;
+                (type.isInterface() ? interfaces : classes).add(superTypeOfT);
+            }
+        }
+
+        for (final TypeDefinition<? super T> type : getInterfaces()) {
+            interfaces.add(type);
+
+            for (final TypeDefinition<?> superInterface : type.getAllSuperTypes()) {
+                @SuppressWarnings("unchecked")
+                final TypeDefinition<? super T> superTypeOfT = (TypeDefinition<? super T>) superInterface;
+                interfaces.add(superTypeOfT);
+            }
+        }
+
+        // an interface has strictly more superinterfaces than any interface it extends
+        final List<TypeDefinition<? super T>> sortedInterfaces = new ArrayList<>(interfaces);
+        sortedInterfaces.sort(Comparator.comparingInt(
+                (TypeDefinition<? super T> type) -> type.getAllSuperTypes().size()).reversed());
+
+        final List<TypeDefinition<? super T>> superTypes = new ArrayList<>(classes);
+        superTypes.addAll(sortedInterfaces);
+
+        return Collections.unmodifiableList(superTypes);
+    }
+
+    /**
+     * Gets the fields declared by this type and all of its {@linkplain #getAllSuperTypes()
+     * supertypes}, in that order.
+     * <p>
+     * Fields are hidden, not overridden, so fields with the same name declared by several types
+     * are all included.
+     *
+     * @return this type's fields, including inherited fields.
+     * @since 0.5.0
+     */
+    @Pure
+    default @NonNull Collection<@NonNull Field<? super @NonNull T, ? extends @NonNull Object>> getAllFields() {
+
+        final List<Field<? super T, ?>> fields = new ArrayList<>(getFields());
+
+        for (final TypeDefinition<? super T> superType : getAllSuperTypes()) {
+            fields.addAll(superType.getFields());
+        }
+
+        return Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * Gets the methods declared by this type and all of its {@linkplain #getAllSuperTypes()
+     * supertypes}, except for methods that are overridden.
+     * <p>
+     * A method is overridden if a type that comes earlier (this type first, then its supertypes
+     * in order) declares a method with the same name and parameter types. Since superclasses come
+     * first, methods of classes take precedence over default methods of interfaces, and methods
+     * of an interface take precedence over the methods of the interfaces it extends. Private and
+     * static methods never override, and are never overridden.
+     *
+     * @return this type's methods, including inherited methods.
+     * @since 0.5.0
+     */
+    @Pure
+    default @NonNull Collection<@NonNull Method<? super @NonNull T, ? extends @Nullable Object>> getAllMethods() {
+
+        final List<Method<? super T, ?>> methods = new ArrayList<>(getMethods());
+        final Set<List<Object>> signatures = new HashSet<>();
+
+        for (final Method<T, ?> method : getMethods()) {
+            if (isOverridable(method)) {
+                signatures.add(signature(method));
+            }
+        }
+
+        for (final TypeDefinition<? super T> superType : getAllSuperTypes()) {
+            final Set<List<Object>> superTypeSignatures = new HashSet<>();
+
+            for (final Method<? super T, ?> method : superType.getMethods()) {
+                if (!isOverridable(method)) {
+                    methods.add(method);
+                    continue;
+                }
+
+                final List<Object> signature = signature(method);
+
+                if (!signatures.contains(signature)) {
+                    // a type may declare a method and its bridge method with the same signature
+                    superTypeSignatures.add(signature);
+                    methods.add(method);
+                }
+            }
+
+            signatures.addAll(superTypeSignatures);
+        }
+
+        return Collections.unmodifiableList(methods);
+    }
+
+    private static boolean hasParameterTypes(final @NonNull Invokable<?, ?> invokable,
+                                             final @NonNull Class<?> @NonNull [] parameterTypes) {
+
+        final List<Parameter<?>> parameters = invokable.getParameters();
+
+        if (parameters.size() != parameterTypes.length) {
+            return false;
+        }
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Objects.requireNonNull(parameterTypes[i], "parameterTypes cannot contain null");
+
+            if (parameters.get(i).getRawType() != parameterTypes[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isOverridable(final @NonNull Method<?, ?> method) {
+
+        return !method.isPrivate() && !method.isStatic();
+    }
+
+    /**
+     * Creates a key of the specified method's name and raw parameter types.
+     */
+    private static @NonNull List<@NonNull Object> signature(final @NonNull Method<?, ?> method) {
+
+        final List<Object> signature = new ArrayList<>();
+        signature.add(method.getName());
+
+        for (final Parameter<?> parameter : method.getParameters()) {
+            signature.add(parameter.getRawType());
+        }
+
+        return signature;
+    }
 }
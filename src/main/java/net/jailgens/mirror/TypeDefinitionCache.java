@@ -0,0 +1,374 @@
+package net.jailgens.mirror;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe, optionally bounded {@link TypeDefinition} cache.
+ * <p>
+ * Classes loaded by the ancestors of the mirror's class loader are cached in a map owned by the
+ * cache. The mirror's class loader keeps its ancestors, and so their classes, alive anyway, so the
+ * map doesn't keep anything alive that wouldn't be otherwise. Storing those in a
+ * {@link ClassValue} would make long-lived classes, like {@link String}, reference the cache's
+ * entries forever.
+ * <p>
+ * All other classes (those loaded by the mirror's class loader, its descendants or unrelated class
+ * loaders) are cached in a {@link ClassValue}. Those entries are stored in the class itself, so
+ * they never keep a class or class loader alive. Entries don't reference the cache, and type
+ * definitions only weakly reference their mirror, so the entries don't keep the mirror (and so
+ * the cache and its {@link ClassValue}) alive as long as the class either.
+ * <p>
+ * Reads are lock-free. Each type definition is created exactly once per entry, even if many
+ * threads reflect the same class at the same time.
+ * <p>
+ * Every loaded entry is tracked by a {@link Node}, which only weakly references its class. The
+ * nodes form a CLOCK (second chance) queue: a hit marks the node as referenced, and when the
+ * cache exceeds its maximum size or weight, the oldest unreferenced node is evicted, while
+ * referenced nodes lose their mark and are moved to the back of the queue.
+ *
+ * @author Sparky983
+ */
+final class TypeDefinitionCache {
+
+    private final @NonNull MirrorImpl mirror;
+    private final @NonNull ClassLoader classLoader;
+    private final long maximumSize;
+    private final long maximumWeight;
+
+    private final @NonNull ClassValue<@NonNull Entry> ownedEntries = new ClassValue<>() {
+        @Override
+        protected @NonNull Entry computeValue(final @NonNull Class<?> cls) {
+
+            return new Entry(cls, false);
+        }
+    };
+    private final @NonNull Map<@NonNull Class<?>, @NonNull Entry> ancestorEntries =
+            new ConcurrentHashMap<>();
+
+    private final @NonNull LongAdder hitCount = new LongAdder();
+    private final @NonNull LongAdder missCount = new LongAdder();
+    private final @NonNull LongAdder totalLoadTime = new LongAdder();
+
+    /**
+     * Guards the clock and the fields below it.
+     */
+    private final @NonNull Object lock = new Object();
+    /**
+     * The sentinel of the clock, a circular doubly linked list from oldest to newest node.
+     */
+    private final @NonNull Node head = new Node(null, null, false, 0);
+    private final @NonNull ReferenceQueue<@NonNull Class<?>> unloadedClasses =
+            new ReferenceQueue<>();
+    private long size;
+    private long weight;
+    private long evictionCount;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param mirror the mirror to create type definitions with.
+     * @param classLoader the mirror's class loader.
+     * @param maximumSize the maximum number of type definitions, {@link Long#MAX_VALUE} for no
+     * maximum.
+     * @param maximumWeight the maximum total weight of the type definitions,
+     * {@link Long#MAX_VALUE} for no maximum.
+     */
+    TypeDefinitionCache(final @NonNull MirrorImpl mirror,
+                        final @NonNull ClassLoader classLoader,
+                        final long maximumSize,
+                        final long maximumWeight) {
+
+        Objects.requireNonNull(mirror, "mirror cannot be null");
+        Objects.requireNonNull(classLoader, "classLoader cannot be null");
+
+        this.mirror = mirror;
+        this.classLoader = classLoader;
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+
+        head.previous = head;
+        head.next = head;
+    }
+
+    /**
+     * Gets the type definition of the specified class, creating it if it isn't cached.
+     *
+     * @param cls the class.
+     * @param <T> the type of the class.
+     * @return the type definition.
+     */
+    @SuppressWarnings("unchecked")
+    <T extends @NonNull Object> @NonNull TypeDefinition<@NonNull T> get(
+            final @NonNull Class<@NonNull T> cls) {
+
+        final Entry entry;
+
+        if (isAncestor(cls.getClassLoader())) {
+            entry = ancestorEntries.computeIfAbsent(cls, (key) -> new Entry(key, true));
+        } else {
+            entry = ownedEntries.get(cls);
+        }
+
+        return (TypeDefinition<T>) entry.get(this);
+    }
+
+    /**
+     * Removes the type definitions of classes loaded by the specified class loader or one of its
+     * descendants.
+     *
+     * @param classLoader the class loader.
+     */
+    void invalidate(final @NonNull ClassLoader classLoader) {
+
+        synchronized (lock) {
+            Node node = head.next;
+
+            while (node != head) {
+                final Node next = node.next;
+                final Class<?> cls = node.get();
+
+                if (cls == null) {
+                    discard(node);
+                } else if (Reflections.isSameOrDescendant(cls.getClassLoader(), classLoader)) {
+                    discard(node);
+                    remove(cls, node.ancestor);
+                }
+
+                node = next;
+            }
+        }
+
+        // entries that are still loading
+        ancestorEntries.keySet()
+                .removeIf((cls) -> Reflections.isSameOrDescendant(cls.getClassLoader(), classLoader));
+    }
+
+    /**
+     * Takes a snapshot of this cache's statistics.
+     *
+     * @param annotationValuesCount the number of annotation values created by the mirror.
+     * @param deduplicatedAnnotationValuesCount the number of them that were deduplicated.
+     * @return the statistics.
+     */
+    @NonNull CacheStats stats(final long annotationValuesCount,
+                              final long deduplicatedAnnotationValuesCount) {
+
+        synchronized (lock) {
+            expungeUnloadedClasses();
+
+            return new CacheStatsImpl(hitCount.sum(),
+                    missCount.sum(),
+                    evictionCount,
+                    Duration.ofNanos(totalLoadTime.sum()),
+                    size,
+                    weight,
+                    annotationValuesCount,
+                    deduplicatedAnnotationValuesCount);
+        }
+    }
+
+    /**
+     * Adds a node for a newly loaded entry, and evicts entries if this cache is now too large.
+     */
+    private @NonNull Node admit(final @NonNull Class<?> cls, final boolean ancestor) {
+
+        final long weight = maximumWeight == Long.MAX_VALUE ? 1 : weigh(cls);
+
+        synchronized (lock) {
+            expungeUnloadedClasses();
+
+            final Node node = new Node(cls, unloadedClasses, ancestor, weight);
+            linkLast(node);
+            size++;
+            this.weight += weight;
+
+            evict();
+
+            return node;
+        }
+    }
+
+    private void evict() {
+
+        while (size > maximumSize || weight > maximumWeight) {
+            final Node node = head.next;
+
+            if (node == head) {
+                return;
+            }
+
+            if (node.referenced) {
+                // second chance
+                node.referenced = false;
+                unlink(node);
+                linkLast(node);
+                continue;
+            }
+
+            discard(node);
+
+            final Class<?> cls = node.get();
+
+            if (cls != null) {
+                remove(cls, node.ancestor);
+                evictionCount++;
+            }
+        }
+    }
+
+    private void expungeUnloadedClasses() {
+
+        Reference<? extends Class<?>> reference;
+
+        while ((reference = unloadedClasses.poll()) != null) {
+            final Node node = (Node) reference;
+
+            if (node.previous != null) {
+                discard(node);
+            }
+        }
+    }
+
+    private void remove(final @NonNull Class<?> cls, final boolean ancestor) {
+
+        if (ancestor) {
+            ancestorEntries.remove(cls);
+        } else {
+            ownedEntries.remove(cls);
+        }
+    }
+
+    private void linkLast(final @NonNull Node node) {
+
+        final Node last = head.previous;
+        node.previous = last;
+        node.next = head;
+        last.next = node;
+        head.previous = node;
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private void unlink(final @NonNull Node node) {
+
+        node.previous.next = node.next;
+        node.next.previous = node.previous;
+        node.previous = null;
+        node.next = null;
+    }
+
+    private void discard(final @NonNull Node node) {
+
+        unlink(node);
+        size--;
+        weight -= node.weight;
+    }
+
+    /**
+     * Checks whether the specified class loader is an ancestor of the mirror's class loader.
+     */
+    private boolean isAncestor(final @Nullable ClassLoader classLoader) {
+
+        return classLoader == null ||
+                (classLoader != this.classLoader &&
+                        Reflections.isSameOrDescendant(this.classLoader, classLoader));
+    }
+
+    /**
+     * Estimates the weight of a type definition by the number of members its class declares.
+     */
+    private static long weigh(final @NonNull Class<?> cls) {
+
+        return 1L +
+                cls.getDeclaredFields().length +
+                cls.getDeclaredConstructors().length +
+                cls.getDeclaredMethods().length;
+    }
+
+    /**
+     * A cache entry, which lazily creates its type definition.
+     * <p>
+     * Entries are stored in classes, so they must not reference their cache.
+     */
+    private static final class Entry {
+
+        private final @NonNull Class<?> cls;
+        private final boolean ancestor;
+
+        private @Nullable Node node;
+        private volatile @Nullable TypeDefinition<?> typeDefinition;
+
+        Entry(final @NonNull Class<?> cls, final boolean ancestor) {
+
+            this.cls = cls;
+            this.ancestor = ancestor;
+        }
+
+        @SuppressWarnings("ConstantConditions")
+        @NonNull TypeDefinition<?> get(final @NonNull TypeDefinitionCache cache) {
+
+            TypeDefinition<?> typeDefinition = this.typeDefinition;
+
+            if (typeDefinition == null) {
+                synchronized (this) {
+                    typeDefinition = this.typeDefinition;
+
+                    if (typeDefinition == null) {
+                        final long start = System.nanoTime();
+                        typeDefinition = cache.mirror.createTypeDefinition(cls);
+                        cache.totalLoadTime.add(System.nanoTime() - start);
+                        cache.missCount.increment();
+
+                        node = cache.admit(cls, ancestor);
+                        this.typeDefinition = typeDefinition;
+                        return typeDefinition;
+                    }
+                }
+            }
+
+            cache.hitCount.increment();
+
+            // avoid writing (and invalidating the cache line) if it's already referenced
+            if (!node.referenced) {
+                node.referenced = true;
+            }
+
+            return typeDefinition;
+        }
+    }
+
+    /**
+     * A node in the clock. Only weakly references the class, so the clock never keeps classes
+     * alive.
+     */
+    private static final class Node extends WeakReference<@NonNull Class<?>> {
+
+        private final boolean ancestor;
+        private final long weight;
+
+        private volatile boolean referenced;
+
+        // guarded by lock
+        private @Nullable Node previous;
+        private @Nullable Node next;
+
+        Node(final @Nullable Class<?> cls,
+             final @Nullable ReferenceQueue<@NonNull Class<?>> queue,
+             final boolean ancestor,
+             final long weight) {
+
+            super(cls, queue);
+
+            this.ancestor = ancestor;
+            this.weight = weight;
+        }
+    }
+}
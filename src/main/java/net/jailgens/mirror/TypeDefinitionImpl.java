@@ -5,10 +5,17 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.Pure;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -23,60 +30,144 @@ final class TypeDefinitionImpl<T extends @NonNull Object> implements TypeDefinit
 
     /**
      * Use the mirror, so we can increase cache hits for inner classes.
+     * <p>
+     * Cached type definitions are stored in their classes (see {@link TypeDefinitionCache}), so
+     * the mirror is only weakly referenced, otherwise it could never be collected while the
+     * class is alive.
      */
-    private final @NonNull Mirror mirror;
+    private final @NonNull WeakReference<@NonNull MirrorImpl> mirror;
     private final @NonNull Class<@NonNull T> rawType;
-    private final @NonNull AnnotationValues annotations;
-    private final @NonNull Set<@NonNull Modifier> modifiers;
-
-    private final @NonNull List<@NonNull Annotation> rawAnnotations;
-
-    private final @NonNull Collection<@NonNull Field<@NonNull T, ? extends @Nullable Object>> fields;
-    private final @NonNull Collection<@NonNull Constructor<@NonNull T>> constructors;
-    private final @NonNull Collection<@NonNull Method<T, ? extends @Nullable Object>> methods;
-    private final @NonNull Collection<@NonNull Member<@NonNull T>> members;
-    private final @NonNull Collection<@NonNull TypeDefinition<? extends @NonNull Object>> innerTypes;
+    private final @NonNull ModifierSet modifiers;
+
+    // everything else is lazily computed, so reflecting a type is cheap until it's actually used
+    private final @NonNull Lazy<@NonNull AnnotationValues> annotations;
+    private final @NonNull Lazy<@NonNull List<@NonNull Annotation>> rawAnnotations;
+
+    private final @NonNull Lazy<@NonNull Collection<@NonNull Field<@NonNull T, ? extends @Nullable Object>>> fields;
+    private final @NonNull Lazy<@NonNull Collection<@NonNull Constructor<@NonNull T>>> constructors;
+    private final @NonNull Lazy<@NonNull Collection<@NonNull Method<T, ? extends @Nullable Object>>> methods;
+    private final @NonNull Lazy<@NonNull Collection<@NonNull Member<@NonNull T>>> members;
+    private final @NonNull Lazy<@NonNull Collection<@NonNull TypeDefinition<? extends @NonNull Object>>> innerTypes;
+
+    // the hierarchy views are built from the supertypes' (cached) type definitions, so each type
+    // is only walked once
+    private final @NonNull Lazy<@NonNull List<@NonNull TypeDefinition<? super @NonNull T>>> interfaces;
+    private final @NonNull Lazy<@NonNull List<@NonNull TypeDefinition<? super @NonNull T>>> allSuperTypes;
+    private final @NonNull Lazy<@NonNull Collection<@NonNull Field<? super @NonNull T, ?>>> allFields;
+    private final @NonNull Lazy<@NonNull Collection<@NonNull Method<? super @NonNull T, ?>>> allMethods;
+
+    // indexes for the lookup methods
+    private final @NonNull Lazy<@NonNull Map<@NonNull String, @NonNull Field<@NonNull T, ?>>> fieldsByName;
+    private final @NonNull Lazy<@NonNull Map<@NonNull String, @NonNull MethodImpl<@NonNull T, ?> @NonNull []>> methodsByName;
+    private final @NonNull Lazy<@NonNull ConstructorImpl<@NonNull T> @NonNull [] @NonNull []> constructorsByParameterCount;
+    private final @NonNull Lazy<@NonNull Map<
+            @NonNull Class<? extends @NonNull Annotation>,
+            @NonNull List<@NonNull Member<@NonNull T>>
+            >> membersByAnnotationType;
+    private final @NonNull Lazy<@NonNull Map<
+            @NonNull Class<? extends @NonNull Annotation>,
+            @NonNull List<@NonNull Parameter<?>>
+            >> parametersByAnnotationType;
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Pure
-    TypeDefinitionImpl(final @NonNull Mirror mirror, final @NonNull Class<@NonNull T> cls) {
+    TypeDefinitionImpl(final @NonNull MirrorImpl mirror, final @NonNull Class<@NonNull T> cls) {
 
         Objects.requireNonNull(mirror, "mirror cannot be null");
         Objects.requireNonNull(cls, "cls cannot be null");
 
-        this.mirror = mirror;
+        this.mirror = new WeakReference<>(mirror);
         this.rawType = cls;
-        this.annotations = Reflections.createAnnotationValues(cls);
-        this.modifiers = Modifier.modifiersAsSet(cls.getModifiers());
+        this.modifiers = ModifierSet.of(cls.getModifiers());
 
-        this.fields = Arrays.stream(cls.getDeclaredFields())
+        this.annotations = Lazy.of(() -> mirror().createAnnotationValues(cls));
+        this.rawAnnotations = Lazy.of(() -> List.of(cls.getAnnotations()));
+
+        this.fields = Lazy.of(() -> Arrays.stream(cls.getDeclaredFields())
                 .<Field<T, ?>>map((field) -> new FieldImpl<>(TypeDefinitionImpl.this, field))
-                .collect(Collectors.toUnmodifiableList());
+                .collect(Collectors.toUnmodifiableList()));
 
         // TODO(Sparky983): find out why it doesn't work without this cast which even IntelliJ says
         //  is redundant
-        this.constructors = (Collection<Constructor<T>>) Arrays.stream(cls.getDeclaredConstructors())
+        this.constructors = Lazy.of(() -> (Collection<Constructor<T>>) Arrays.stream(cls.getDeclaredConstructors())
                 .<@NonNull Constructor<@NonNull T>>map((constructor) -> new ConstructorImpl<>(this, (java.lang.reflect.Constructor) constructor))
-                .collect(Collectors.toUnmodifiableList());
+                .collect(Collectors.toUnmodifiableList()));
 
-        this.methods = (Collection<Method<T, ?>>) Arrays.stream(cls.getDeclaredMethods())
+        this.methods = Lazy.of(() -> (Collection<Method<T, ?>>) Arrays.stream(cls.getDeclaredMethods())
                 .<Method<T, ?>>map((method) -> new MethodImpl(this, method))
-                .collect(Collectors.toUnmodifiableList());
+                .collect(Collectors.toUnmodifiableList()));
 
-        this.members = Stream.of(fields, constructors, methods)
+        this.members = Lazy.of(() -> Stream.of(getFields(), getConstructors(), getMethods())
                 .flatMap(Collection::stream)
-                .collect(Collectors.toUnmodifiableList());
+                .collect(Collectors.toUnmodifiableList()));
+
+        this.innerTypes = Lazy.of(() -> Arrays.stream(cls.getDeclaredClasses())
+                .map((type) -> mirror().reflect(type))
+                .collect(Collectors.toUnmodifiableList()));
+
+        this.interfaces = Lazy.of(() -> Arrays.stream(cls.getInterfaces())
+                .<TypeDefinition<? super T>>map((type) -> (TypeDefinition<? super T>) mirror().reflect(type))
+                .collect(Collectors.toUnmodifiableList()));
+        this.allSuperTypes = Lazy.of(TypeDefinition.super::getAllSuperTypes);
+        this.allFields = Lazy.of(() -> TypeDefinition.super.getAllFields().stream()
+                .map(this::inherit)
+                .collect(Collectors.toUnmodifiableList()));
+        this.allMethods = Lazy.of(() -> TypeDefinition.super.getAllMethods().stream()
+                .map(this::inherit)
+                .collect(Collectors.toUnmodifiableList()));
+
+        this.fieldsByName = Lazy.of(() -> getFields().stream()
+                .collect(Collectors.toUnmodifiableMap(Field::getName, (field) -> field)));
+        this.methodsByName = Lazy.of(this::indexMethods);
+        this.constructorsByParameterCount = Lazy.of(this::indexConstructors);
+        this.membersByAnnotationType = Lazy.of(() -> indexByAnnotationType(getMembers().stream()
+                .map((member) -> (Annotated) member)
+                .collect(Collectors.toList())));
+        this.parametersByAnnotationType = Lazy.of(() -> indexByAnnotationType(
+                Stream.concat(getConstructors().stream(), getMethods().stream())
+                        .flatMap((invokable) -> invokable.getParameters().stream())
+                        .collect(Collectors.toList())));
+    }
+
+    /**
+     * Gets the mirror of this type definition, or a non-caching mirror if the mirror was
+     * collected while this type definition is still used.
+     */
+    private @NonNull MirrorImpl mirror() {
+
+        final MirrorImpl mirror = this.mirror.get();
+
+        if (mirror == null) {
+            return MirrorImpl.uncached();
+        }
+
+        return mirror;
+    }
+
+    /**
+     * Creates the annotation values of an element of the specified type, which are deduplicated
+     * by the type's mirror.
+     *
+     * @param declaringType the type.
+     * @param annotatedElement the element.
+     * @return the annotation values.
+     */
+    static @NonNull AnnotationValues createAnnotationValues(
+            final @NonNull TypeDefinition<?> declaringType,
+            final @NonNull AnnotatedElement annotatedElement) {
+
+        if (declaringType instanceof TypeDefinitionImpl) {
+            return ((TypeDefinitionImpl<?>) declaringType).mirror()
+                    .createAnnotationValues(annotatedElement);
+        }
 
-        this.rawAnnotations = List.of(cls.getAnnotations());
-        this.innerTypes = Arrays.stream(cls.getDeclaredClasses())
-                .map(mirror::reflect)
-                .collect(Collectors.toUnmodifiableList());
+        return Reflections.createAnnotationValues(annotatedElement);
     }
 
     @Override
     public @NonNull AnnotationValues getAnnotations() {
 
-        return annotations;
+        return annotations.get();
     }
 
     @Override
@@ -91,7 +182,7 @@ final class TypeDefinitionImpl<T extends @NonNull Object> implements TypeDefinit
     @Override
     public @NonNull List<@NonNull Annotation> getRawAnnotations() {
 
-        return rawAnnotations;
+        return rawAnnotations.get();
     }
 
     @Override
@@ -118,6 +209,12 @@ final class TypeDefinitionImpl<T extends @NonNull Object> implements TypeDefinit
         return modifiers;
     }
 
+    @Override
+    public int getModifierBits() {
+
+        return modifiers.bits();
+    }
+
     @Override
     public @NonNull Class<@NonNull T> getRawType() {
 
@@ -127,25 +224,181 @@ final class TypeDefinitionImpl<T extends @NonNull Object> implements TypeDefinit
     @Override
     public @NonNull Collection<@NonNull Field<@NonNull T, ? extends @NonNull Object>> getFields() {
 
-        return fields;
+        return fields.get();
     }
 
     @Override
     public @NonNull Collection<@NonNull Constructor<@NonNull T>> getConstructors() {
 
-        return constructors;
+        return constructors.get();
     }
 
     @Override
     public @NonNull Collection<@NonNull Method<@NonNull T, ? extends @NonNull Object>> getMethods() {
 
-        return methods;
+        return methods.get();
+    }
+
+    @Override
+    public @NonNull Optional<@NonNull Field<@NonNull T, ? extends @NonNull Object>> getField(
+            final @NonNull String name) {
+
+        Objects.requireNonNull(name, "name cannot be null");
+
+        return Optional.ofNullable(fieldsByName.get().get(name));
+    }
+
+    @Override
+    public @NonNull Optional<@NonNull Constructor<@NonNull T>> getConstructor(
+            final @NonNull Class<?> @NonNull ... parameterTypes) {
+
+        checkParameterTypes(parameterTypes);
+
+        final ConstructorImpl<T>[][] constructorsByParameterCount =
+                this.constructorsByParameterCount.get();
+
+        if (parameterTypes.length >= constructorsByParameterCount.length) {
+            return Optional.empty();
+        }
+
+        final ConstructorImpl<T>[] constructors = constructorsByParameterCount[parameterTypes.length];
+
+        for (final ConstructorImpl<T> constructor : constructors) {
+            if (constructor.hasParameterTypes(parameterTypes)) {
+                return Optional.of(constructor);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public @NonNull Optional<@NonNull Method<@NonNull T, ? extends @Nullable Object>> getMethod(
+            final @NonNull String name,
+            final @NonNull Class<?> @NonNull ... parameterTypes) {
+
+        Objects.requireNonNull(name, "name cannot be null");
+        checkParameterTypes(parameterTypes);
+
+        final MethodImpl<T, ?>[] methods = methodsByName.get().get(name);
+
+        if (methods == null) {
+            return Optional.empty();
+        }
+
+        for (final MethodImpl<T, ?> method : methods) {
+            if (method.hasParameterTypes(parameterTypes)) {
+                return Optional.of(method);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Groups this type's constructors by their number of parameters, so the array at each index
+     * contains the constructors with that many parameters.
+     */
+    @SuppressWarnings("unchecked")
+    private @NonNull ConstructorImpl<@NonNull T> @NonNull [] @NonNull [] indexConstructors() {
+
+        final List<List<ConstructorImpl<T>>> constructorsByParameterCount = new ArrayList<>();
+
+        for (final Constructor<T> constructor : getConstructors()) {
+            final ConstructorImpl<T> constructorImpl = (ConstructorImpl<T>) constructor;
+
+            while (constructorsByParameterCount.size() <= constructorImpl.parameterCount()) {
+                constructorsByParameterCount.add(new ArrayList<>());
+            }
+
+            constructorsByParameterCount.get(constructorImpl.parameterCount()).add(constructorImpl);
+        }
+
+        return constructorsByParameterCount.stream()
+                .map((constructors) -> constructors.toArray(ConstructorImpl[]::new))
+                .toArray(ConstructorImpl[][]::new);
+    }
+
+    /**
+     * Groups this type's methods by name, with non-bridge methods first, so they are preferred
+     * over bridge methods.
+     */
+    @SuppressWarnings("unchecked")
+    private @NonNull Map<@NonNull String, @NonNull MethodImpl<@NonNull T, ?> @NonNull []> indexMethods() {
+
+        final Map<String, List<MethodImpl<T, ?>>> methodsByName = new HashMap<>();
+
+        for (final Method<T, ?> method : getMethods()) {
+            methodsByName.computeIfAbsent(method.getName(), (name) -> new ArrayList<>())
+                    .add((MethodImpl<T, ?>) method);
+        }
+
+        final Map<String, MethodImpl<T, ?>[]> index = new HashMap<>();
+
+        methodsByName.forEach((name, methods) -> {
+            methods.sort(Comparator.comparing(MethodImpl::isBridge));
+            index.put(name, methods.toArray(MethodImpl[]::new));
+        });
+
+        return index;
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Member<@NonNull T>> getMembersAnnotatedWith(
+            final @NonNull Class<? extends @NonNull Annotation> annotationType) {
+
+        Objects.requireNonNull(annotationType, "annotationType cannot be null");
+
+        return membersByAnnotationType.get().getOrDefault(annotationType, List.of());
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Parameter<? extends @NonNull Object>> getParametersAnnotatedWith(
+            final @NonNull Class<? extends @NonNull Annotation> annotationType) {
+
+        Objects.requireNonNull(annotationType, "annotationType cannot be null");
+
+        return parametersByAnnotationType.get().getOrDefault(annotationType, List.of());
+    }
+
+    /**
+     * Groups the specified annotated elements by the types of the annotations they are annotated
+     * with.
+     */
+    @SuppressWarnings("unchecked")
+    private static <A extends @NonNull Object> @NonNull Map<
+            @NonNull Class<? extends @NonNull Annotation>,
+            @NonNull List<@NonNull A>
+            > indexByAnnotationType(final @NonNull List<? extends @NonNull Annotated> annotatedElements) {
+
+        final Map<Class<? extends Annotation>, List<A>> index = new HashMap<>();
+
+        for (final Annotated annotated : annotatedElements) {
+            for (final Annotation annotation : annotated.getRawAnnotations()) {
+                index.computeIfAbsent(annotation.annotationType(),
+                                (annotationType) -> new ArrayList<>())
+                        .add((A) annotated);
+            }
+        }
+
+        index.replaceAll((annotationType, elements) -> List.copyOf(elements));
+
+        return index;
+    }
+
+    private static void checkParameterTypes(final @NonNull Class<?> @NonNull [] parameterTypes) {
+
+        Objects.requireNonNull(parameterTypes, "parameterTypes cannot be null");
+
+        for (final Class<?> parameterType : parameterTypes) {
+            Objects.requireNonNull(parameterType, "parameterTypes cannot contain null");
+        }
     }
 
     @Override
     public @NonNull Collection<@NonNull Member<@NonNull T>> getMembers() {
 
-        return members;
+        return members.get();
     }
 
     @Override
@@ -173,7 +426,7 @@ final class TypeDefinitionImpl<T extends @NonNull Object> implements TypeDefinit
     @Override
     public @NonNull Collection<@NonNull TypeDefinition<? extends @NonNull Object>> getInnerTypes() {
 
-        return innerTypes;
+        return innerTypes.get();
     }
 
     @Override
@@ -183,7 +436,7 @@ final class TypeDefinitionImpl<T extends @NonNull Object> implements TypeDefinit
             return null;
         }
 
-        return mirror.reflect(rawType.getDeclaringClass());
+        return mirror().reflect(rawType.getDeclaringClass());
     }
 
     @Override
@@ -191,4 +444,67 @@ final class TypeDefinitionImpl<T extends @NonNull Object> implements TypeDefinit
 
         return rawType.getDeclaringClass();
     }
+
+    @Override
+    public @Nullable TypeDefinition<? super @NonNull T> getSuperType() {
+
+        if (rawType.getSuperclass() == null) {
+            return null;
+        }
+
+        return mirror().reflect(rawType.getSuperclass());
+    }
+
+    @Override
+    public @NonNull List<@NonNull TypeDefinition<? super @NonNull T>> getInterfaces() {
+
+        return interfaces.get();
+    }
+
+    /**
+     * Resolves the type of the specified field of this type or one of its supertypes against this
+     * type, so that the type variables bound by this type (like the {@code T} of {@code Box<T>} in
+     * {@code class StringBox extends Box<String>}) are replaced by their type arguments.
+     */
+    private @NonNull Field<? super @NonNull T, ?> inherit(
+            final @NonNull Field<? super @NonNull T, ?> field) {
+
+        if (field.getDeclaringType() == this || !(field instanceof FieldImpl)) {
+            return field;
+        }
+
+        return ((FieldImpl<? super T, ?>) field).inheritedBy(rawType);
+    }
+
+    /**
+     * Resolves the return and parameter types of the specified method of this type or one of its
+     * supertypes against this type (see {@link #inherit(Field)}).
+     */
+    private @NonNull Method<? super @NonNull T, ?> inherit(
+            final @NonNull Method<? super @NonNull T, ?> method) {
+
+        if (method.getDeclaringType() == this || !(method instanceof MethodImpl)) {
+            return method;
+        }
+
+        return ((MethodImpl<? super T, ?>) method).inheritedBy(rawType);
+    }
+
+    @Override
+    public @NonNull List<@NonNull TypeDefinition<? super @NonNull T>> getAllSuperTypes() {
+
+        return allSuperTypes.get();
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Field<? super @NonNull T, ? extends @NonNull Object>> getAllFields() {
+
+        return allFields.get();
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Method<? super @NonNull T, ? extends @Nullable Object>> getAllMethods() {
+
+        return allMethods.get();
+    }
 }
@@ -0,0 +1,226 @@
+package net.jailgens.mirror;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves generic {@link Type}s into {@link ParameterizedType}s.
+ * <p>
+ * Type variables are resolved against a context class: a type variable bound by one of the
+ * context's generic supertypes (e.g. the {@code T} of {@code Box<T>} in
+ * {@code class StringBox extends Box<String>}) is replaced by its type argument. Since a
+ * {@link ParameterizedType} can't represent type variables or wildcards, any other type variable
+ * and all wildcards are replaced by their (first) upper bound. Generic array types are
+ * represented by the raw array type with the type arguments of their component type.
+ * <p>
+ * Resolvers are stored in a {@link ClassValue} of their context class, and cache every type they
+ * resolve, so a type is only walked once per context.
+ *
+ * @author Sparky983
+ */
+final class TypeResolver {
+
+    private static final @NonNull ClassValue<@NonNull TypeResolver> RESOLVERS =
+            new ClassValue<>() {
+                @Override
+                protected @NonNull TypeResolver computeValue(final @NonNull Class<?> cls) {
+
+                    return new TypeResolver(cls);
+                }
+            };
+
+    /**
+     * The type arguments of the context's generic supertypes by the type variables they bind.
+     */
+    private final @NonNull Map<@NonNull TypeVariable<?>, @NonNull Type> typeArguments;
+    private final @NonNull Map<@NonNull Type, @NonNull ParameterizedType<?>> resolvedTypes =
+            new ConcurrentHashMap<>();
+
+    private TypeResolver(final @NonNull Class<?> context) {
+
+        this.typeArguments = bindTypeArguments(context);
+    }
+
+    /**
+     * Resolves the specified type against the specified context class.
+     *
+     * @param context the class to resolve type variables against.
+     * @param type the type.
+     * @return the resolved type.
+     * @throws IllegalArgumentException if the type isn't a {@link Class},
+     * {@link java.lang.reflect.ParameterizedType}, {@link GenericArrayType}, {@link WildcardType}
+     * or {@link TypeVariable}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SideEffectFree
+    static @NonNull ParameterizedType<?> resolve(final @NonNull Class<?> context,
+                                                 final @NonNull Type type) {
+
+        Objects.requireNonNull(context, "context cannot be null");
+        Objects.requireNonNull(type, "type cannot be null");
+
+        // most types aren't generic
+        if (type instanceof Class) {
+            return ParameterizedType.of((Class) type);
+        }
+
+        final TypeResolver resolver = RESOLVERS.get(context);
+
+        return resolver.resolvedTypes.computeIfAbsent(type,
+                (key) -> resolver.resolve(key, new HashSet<>()));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private @NonNull ParameterizedType<?> resolve(
+            final @NonNull Type type,
+            final @NonNull Set<@NonNull TypeVariable<?>> resolvingTypeVariables) {
+
+        if (type instanceof Class) {
+            return ParameterizedType.of((Class) type);
+        }
+
+        if (type instanceof java.lang.reflect.ParameterizedType) {
+            final java.lang.reflect.ParameterizedType parameterizedType =
+                    (java.lang.reflect.ParameterizedType) type;
+            final Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
+            final ParameterizedType<?>[] typeArguments =
+                    new ParameterizedType<?>[actualTypeArguments.length];
+
+            for (int i = 0; i < actualTypeArguments.length; i++) {
+                typeArguments[i] = resolve(actualTypeArguments[i], resolvingTypeVariables);
+            }
+
+            return ParameterizedType.of((Class) parameterizedType.getRawType(), typeArguments);
+        }
+
+        if (type instanceof GenericArrayType) {
+            final ParameterizedType<?> componentType =
+                    resolve(((GenericArrayType) type).getGenericComponentType(),
+                            resolvingTypeVariables);
+            final List<ParameterizedType<?>> typeArguments = componentType.getTypeArguments();
+
+            return ParameterizedType.of(
+                    (Class) Array.newInstance(componentType.getRawType(), 0).getClass(),
+                    typeArguments.toArray(ParameterizedType[]::new));
+        }
+
+        if (type instanceof WildcardType) {
+            return resolve(((WildcardType) type).getUpperBounds()[0], resolvingTypeVariables);
+        }
+
+        if (type instanceof TypeVariable) {
+            final TypeVariable<?> typeVariable = (TypeVariable<?>) type;
+            final Type typeArgument = typeArguments.get(typeVariable);
+
+            if (typeArgument != null) {
+                return resolve(typeArgument, resolvingTypeVariables);
+            }
+
+            // recursive bounds, like T extends Comparable<T>
+            if (!resolvingTypeVariables.add(typeVariable)) {
+                return ParameterizedType.of((Class) erase(typeVariable));
+            }
+
+            final ParameterizedType<?> bound =
+                    resolve(typeVariable.getBounds()[0], resolvingTypeVariables);
+            resolvingTypeVariables.remove(typeVariable);
+
+            return bound;
+        }
+
+        throw new IllegalArgumentException("Unsupported type: " + type.getTypeName());
+    }
+
+    private static @NonNull Class<?> erase(final @NonNull Type type) {
+
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+
+        if (type instanceof java.lang.reflect.ParameterizedType) {
+            return (Class<?>) ((java.lang.reflect.ParameterizedType) type).getRawType();
+        }
+
+        if (type instanceof GenericArrayType) {
+            return Array.newInstance(erase(((GenericArrayType) type).getGenericComponentType()), 0)
+                    .getClass();
+        }
+
+        if (type instanceof WildcardType) {
+            return erase(((WildcardType) type).getUpperBounds()[0]);
+        }
+
+        if (type instanceof TypeVariable) {
+            return erase(((TypeVariable<?>) type).getBounds()[0]);
+        }
+
+        throw new IllegalArgumentException("Unsupported type: " + type.getTypeName());
+    }
+
+    /**
+     * Collects the type arguments of all the generic supertypes of the specified class.
+     */
+    private static @NonNull Map<@NonNull TypeVariable<?>, @NonNull Type> bindTypeArguments(
+            final @NonNull Class<?> cls) {
+
+        final Map<TypeVariable<?>, Type> typeArguments = new HashMap<>();
+        final Set<Class<?>> visited = new HashSet<>();
+        final Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(cls);
+
+        while (!pending.isEmpty()) {
+            final Class<?> type = pending.poll();
+
+            if (!visited.add(type)) {
+                continue;
+            }
+
+            final Type superclass = type.getGenericSuperclass();
+
+            if (superclass != null) {
+                bindTypeArguments(superclass, typeArguments);
+                pending.add(type.getSuperclass());
+            }
+
+            for (final Type superInterface : type.getGenericInterfaces()) {
+                bindTypeArguments(superInterface, typeArguments);
+                pending.add(erase(superInterface));
+            }
+        }
+
+        return typeArguments;
+    }
+
+    private static void bindTypeArguments(final @NonNull Type superType,
+                                          final @NonNull Map<@NonNull TypeVariable<?>, @NonNull Type> typeArguments) {
+
+        if (!(superType instanceof java.lang.reflect.ParameterizedType)) {
+            return;
+        }
+
+        final java.lang.reflect.ParameterizedType parameterizedType =
+                (java.lang.reflect.ParameterizedType) superType;
+        final TypeVariable<?>[] typeParameters =
+                ((Class<?>) parameterizedType.getRawType()).getTypeParameters();
+        final Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
+
+        for (int i = 0; i < typeParameters.length; i++) {
+            typeArguments.put(typeParameters[i], actualTypeArguments[i]);
+        }
+    }
+}
@@ -2,7 +2,11 @@ package net.jailgens.mirror;
 
 import org.junit.jupiter.api.Test;
 
+import java.lang.annotation.Retention;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AnnotationElementTest {
@@ -27,4 +31,24 @@ class AnnotationElementTest {
 
         assertFalse(equal);
     }
+
+    @Test
+    void Given_EqualAnnotationElements_When_Create_Then_ReturnsSameInstance() {
+
+        final AnnotationElement byClass = AnnotationElement.of(Retention.class, "value");
+        final AnnotationElement byName = AnnotationElement.of("java.lang.annotation.Retention", "value");
+        final AnnotationElement value = AnnotationElement.value(Retention.class);
+
+        assertSame(byClass, byName);
+        assertSame(byClass, value);
+    }
+
+    @Test
+    void Given_AnnotationClass_When_CreateAnnotationElement_Then_UsesTypeName() {
+
+        final AnnotationElement annotationElement = AnnotationElement.of(Retention.class, "value");
+
+        assertEquals("java.lang.annotation.Retention", annotationElement.getAnnotationType());
+        assertEquals("value", annotationElement.getName());
+    }
 }
@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -75,6 +76,134 @@ class AnnotationValuesTest {
         assertEquals(values1HashCode, values2HashCode);
     }
 
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Command {
+
+        String[] aliases() default {};
+
+        int priority() default 0;
+
+        Retention retention() default @Retention(RetentionPolicy.RUNTIME);
+    }
+
+    @Command(aliases = {"a", "b"}, priority = 5, retention = @Retention(RetentionPolicy.CLASS))
+    static class CommandClass {
+
+    }
+
+    @Test
+    void Given_ReflectedAnnotationValues_When_As_Then_ReturnsEqualAnnotation() {
+
+        final Command command = CommandClass.class.getAnnotation(Command.class);
+        final AnnotationValues values = Reflections.createAnnotationValues(CommandClass.class);
+
+        final Command view = values.as(Command.class);
+
+        assertArrayEquals(new String[]{"a", "b"}, view.aliases());
+        assertEquals(5, view.priority());
+        assertEquals(RetentionPolicy.CLASS, view.retention().value());
+        assertEquals(Command.class, view.annotationType());
+        assertTrue(view.equals(command) && command.equals(view));
+        assertEquals(command.hashCode(), view.hashCode());
+        assertSame(view, values.as(Command.class));
+    }
+
+    @Test
+    void Given_AnnotationValuesWithoutElements_When_As_Then_ReturnsDefaults() {
+
+        final AnnotationValues values = AnnotationValues.builder()
+                .annotate(Command.class)
+                .build();
+
+        final Command view = values.as(Command.class);
+
+        assertArrayEquals(new String[0], view.aliases());
+        assertEquals(0, view.priority());
+        assertEquals(RetentionPolicy.RUNTIME, view.retention().value());
+    }
+
+    @Test
+    void Given_AnnotationValuesWithoutAnnotation_When_As_Then_Throws() {
+
+        final AnnotationValues values = AnnotationValues.empty();
+
+        assertThrows(IllegalArgumentException.class, () -> values.as(Command.class));
+    }
+
+    @Test
+    void Given_AnnotationValuesWithEqualArrays_When_CompareEquality_Then_ReturnsTrue() {
+
+        final AnnotationValues values1 = AnnotationValues.builder()
+                .value(AnnotationElement.value(Annotation.class), new int[]{1, 2, 3})
+                .build();
+        final AnnotationValues values2 = AnnotationValues.builder()
+                .value(AnnotationElement.value(Annotation.class), new int[]{1, 2, 3})
+                .build();
+
+        final boolean equals = values1.equals(values2) && values2.equals(values1);
+
+        assertTrue(equals);
+        assertEquals(values1.hashCode(), values2.hashCode());
+    }
+
+    @Test
+    void Given_ArrayChangedAfterBuild_When_GetAndCompareEquality_Then_KeepsBuiltValues() {
+
+        final int[] array = {1, 2};
+        final AnnotationValues values = AnnotationValues.builder()
+                .value(AnnotationElement.value(Annotation.class), array)
+                .build();
+        final AnnotationValues equalValues = AnnotationValues.builder()
+                .value(AnnotationElement.value(Annotation.class), new int[]{1, 2})
+                .build();
+
+        array[0] = 9;
+        ((int[]) values.getBoxed(AnnotationElement.value(Annotation.class)).orElseThrow())[1] = 9;
+
+        assertArrayEquals(new int[]{1, 2}, values.getInts(AnnotationElement.value(Annotation.class)));
+        assertEquals(equalValues, values);
+        assertEquals(equalValues.hashCode(), values.hashCode());
+    }
+
+    @Test
+    void Given_AnnotationValuesInDifferentOrder_When_CompareEquality_Then_ReturnsTrue() {
+
+        final AnnotationValues values1 = AnnotationValues.builder()
+                .value(AnnotationElement.of(Annotation.class, "first"), 1.5F)
+                .value(AnnotationElement.of(Annotation.class, "second"), "value")
+                .build();
+        final AnnotationValues values2 = AnnotationValues.builder()
+                .value(AnnotationElement.of(Annotation.class, "second"), "value")
+                .value(AnnotationElement.of(Annotation.class, "first"), 1.5F)
+                .build();
+
+        final boolean equals = values1.equals(values2) && values2.equals(values1);
+
+        assertTrue(equals);
+        assertEquals(values1.hashCode(), values2.hashCode());
+    }
+
+    @Test
+    void Given_AnnotationValuesWithManyElements_When_GetValues_Then_ReturnsValues() {
+
+        final AnnotationValues.Builder builder = AnnotationValues.builder();
+
+        for (int i = 0; i < 20; i++) {
+            builder.value(AnnotationElement.of(Annotation.class, "int" + i), i)
+                    .value(AnnotationElement.of(Annotation.class, "string" + i), "value" + i);
+        }
+
+        final AnnotationValues values = builder
+                .value(AnnotationElement.of(Annotation.class, "int3"), 42)
+                .build();
+
+        assertEquals(OptionalInt.of(42), values.getInt(AnnotationElement.of(Annotation.class, "int3")));
+        assertEquals(OptionalInt.of(19), values.getInt(AnnotationElement.of(Annotation.class, "int19")));
+        assertEquals(Optional.of("value7"), values.getString(AnnotationElement.of(Annotation.class, "string7")));
+        assertFalse(values.hasElement(AnnotationElement.of(Annotation.class, "int20")));
+        assertEquals(40, values.getElements().size());
+    }
+
     @Test
     void Given_AnnotationValues_When_ConvertToString_Then_ReturnCorrectStringRepresentation() {
 
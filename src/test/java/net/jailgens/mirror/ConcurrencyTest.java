@@ -0,0 +1,247 @@
+package net.jailgens.mirror;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress tests members being used from many threads at once.
+ * <p>
+ * Every test uses a new mirror, so the threads also race to lazily resolve the member's method
+ * handles. The mirror is built with an explicit class loader, because the default mirror is a
+ * shared singleton whose members would already be resolved by earlier tests.
+ */
+@SuppressWarnings({"unused", "FieldMayBeFinal"})
+class ConcurrencyTest {
+
+    static final int THREADS = 16;
+    static final int ITERATIONS = 10_000;
+
+    Mirror mirror;
+
+    @BeforeEach
+    void setUp() {
+
+        mirror = Mirror.builder()
+                .classLoader(ConcurrencyTest.class.getClassLoader())
+                .build();
+    }
+
+    /**
+     * Runs the task on {@link #THREADS} threads at once, and rethrows the first exception thrown
+     * by any of them.
+     */
+    void runConcurrently(final @NonNull Callable<?> task) throws Exception {
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+
+            start.countDown();
+
+            for (final Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static class TestClass {
+
+        private int value;
+        private volatile int counter;
+        private volatile long stamp;
+
+        TestClass() {
+
+        }
+
+        TestClass(final int value) {
+
+            this.value = value;
+        }
+
+        private int add(final int a) {
+
+            return value + a;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T member(final @NonNull String name) {
+
+        final TypeDefinition<TestClass> type = mirror.reflect(TestClass.class);
+
+        return (T) type.getMembers().stream()
+                .filter((member) -> member.getName().equals(name))
+                .findAny()
+                .orElseThrow();
+    }
+
+    @Test
+    void Given_Field_When_GetAndSetConcurrently_Then_AccessesField() throws Exception {
+
+        final Field<TestClass, Integer> field = member("value");
+
+        runConcurrently(() -> {
+            final TestClass instance = new TestClass();
+            for (int i = 0; i < ITERATIONS; i++) {
+                field.set(instance, i);
+                assertEquals(i, field.get(instance));
+                field.setInt(instance, -i);
+                assertEquals(-i, field.getInt(instance));
+            }
+            return null;
+        });
+    }
+
+    @Test
+    void Given_Method_When_InvokedConcurrently_Then_InvokesMethod() throws Exception {
+
+        final Method<TestClass, Integer> method = member("add");
+
+        runConcurrently(() -> {
+            final TestClass instance = new TestClass(1);
+            for (int i = 0; i < ITERATIONS; i++) {
+                assertEquals(i + 1, method.invoke(instance, i));
+                assertEquals(i + 1, method.invoke1(instance, i));
+                assertEquals(i + 1, method.invokeInt1(instance, i));
+            }
+            return null;
+        });
+    }
+
+    @Test
+    void Given_Constructor_When_ConstructedConcurrently_Then_ConstructsInstances() throws Exception {
+
+        final TypeDefinition<TestClass> type = mirror.reflect(TestClass.class);
+        final Constructor<TestClass> constructor = type.getConstructors().stream()
+                .filter((c) -> c.getParameters().size() == 1)
+                .findAny()
+                .orElseThrow();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                assertEquals(i, constructor.construct(i).value);
+                assertEquals(i, constructor.construct1(i).value);
+            }
+            return null;
+        });
+    }
+
+    @Test
+    void Given_VolatileField_When_GetAndAddConcurrently_Then_NoUpdatesAreLost() throws Exception {
+
+        final Field<TestClass, Integer> field = member("counter");
+        final TestClass instance = new TestClass();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                field.getAndAddInt(instance, 1);
+            }
+            return null;
+        });
+
+        assertEquals(THREADS * ITERATIONS, instance.counter);
+    }
+
+    @Test
+    void Given_VolatileField_When_CompareAndSetConcurrently_Then_OnlyOneThreadSucceeds() throws Exception {
+
+        final Field<TestClass, Integer> field = member("counter");
+
+        for (int i = 0; i < 100; i++) {
+            final TestClass instance = new TestClass();
+            final AtomicInteger successes = new AtomicInteger();
+
+            runConcurrently(() -> {
+                if (field.compareAndSetInt(instance, 0, 1)) {
+                    successes.incrementAndGet();
+                }
+                return null;
+            });
+
+            assertEquals(1, successes.get());
+            assertEquals(1, instance.counter);
+        }
+    }
+
+    @Test
+    void Given_SharedVolatileField_When_SetAndGetVolatileConcurrently_Then_ReadsWholeLatestValues()
+            throws Exception {
+
+        final Field<TestClass, Long> field = member("stamp");
+        final TestClass instance = new TestClass();
+        final AtomicInteger threadIds = new AtomicInteger();
+
+        runConcurrently(() -> {
+            final int threadId = threadIds.getAndIncrement();
+            // the last iteration read from each thread, a thread's writes must never be read out
+            // of order
+            final int[] lastIterations = new int[THREADS];
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                // both halves store the thread id and iteration, so a torn read has unequal halves
+                final long half = ((long) threadId << 20) | i;
+                field.set(instance, (half << 32) | half);
+
+                final long stamp = field.getVolatile(instance);
+                final int high = (int) (stamp >>> 32);
+                final int low = (int) stamp;
+                assertEquals(high, low);
+
+                final int writerId = low >>> 20;
+                final int iteration = low & 0xFFFFF;
+                if (writerId == threadId) {
+                    // this thread's latest write must not be missing
+                    assertEquals(i, iteration);
+                }
+                assertTrue(iteration >= lastIterations[writerId]);
+                lastIterations[writerId] = iteration;
+            }
+            return null;
+        });
+    }
+
+    @Test
+    void Given_Mirror_When_ReflectConcurrently_Then_ReturnsSameTypeDefinition() throws Exception {
+
+        final Set<TypeDefinition<?>> typeDefinitions = ConcurrentHashMap.newKeySet();
+        final Set<TypeDefinition<?>> innerTypeDefinitions = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(() -> {
+            typeDefinitions.add(mirror.reflect(ConcurrencyTest.class));
+            innerTypeDefinitions.add(mirror.reflect(TestClass.class));
+            return null;
+        });
+
+        assertEquals(1, typeDefinitions.size());
+        assertEquals(1, innerTypeDefinitions.size());
+        assertSame(mirror.reflect(TestClass.class), innerTypeDefinitions.iterator().next());
+    }
+}
@@ -11,6 +11,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -147,6 +149,32 @@ class ConstructorTest {
         assertThrows(IllegalArgumentException.class, () -> constructor3.construct("not enough arguments"));
     }
 
+    @Test
+    void Given_Constructors_When_ConstructWithFixedArity_Then_CallTargetConstructors() {
+
+        final Constructor<StringValueClass> constructor = reflectConstructor(StringValueClass.class);
+        final Constructor<ArgumentsLengthTestClass> constructor1 =
+                reflectConstructorByParameterLength(ArgumentsLengthTestClass.class, 0);
+        final Constructor<ArgumentsLengthTestClass> constructor3 =
+                reflectConstructorByParameterLength(ArgumentsLengthTestClass.class, 2);
+
+        assertEquals("some argument", constructor.construct1("some argument").argument);
+        assertEquals(ArgumentsLengthTestClass.class, constructor1.construct0().getClass());
+        assertEquals(ArgumentsLengthTestClass.class, constructor3.construct2("a", "b").getClass());
+    }
+
+    @Test
+    void Given_Constructor_When_ConstructWithWrongFixedArity_Then_Throws() {
+
+        final Constructor<ArgumentsLengthTestClass> constructor =
+                reflectConstructorByParameterLength(ArgumentsLengthTestClass.class, 1);
+
+        assertThrows(IllegalArgumentException.class, constructor::construct0);
+        assertThrows(IllegalArgumentException.class, () -> constructor.construct2("too", "many"));
+        assertThrows(IllegalArgumentException.class, () -> constructor.construct3("too", "many", "arguments"));
+        assertThrows(ClassCastException.class, () -> constructor.construct1(new Object()));
+    }
+
     static abstract class TestAbstractClass {
 
     }
@@ -159,6 +187,14 @@ class ConstructorTest {
         assertThrows(IllegalStateException.class, constructor::construct);
     }
 
+    @Test
+    void Given_AbstractClassConstructor_When_ConstructWithFixedArity_Then_Throws() {
+
+        final Constructor<TestAbstractClass> constructor = reflectConstructor(TestAbstractClass.class);
+
+        assertThrows(IllegalStateException.class, constructor::construct0);
+    }
+
     static final RuntimeException e = new RuntimeException();
 
     static class ThrowingClass {
@@ -177,6 +213,41 @@ class ConstructorTest {
         final InvocationException thrown =
                 assertThrows(InvocationException.class, constructor::construct);
         assertEquals(e, thrown.getTargetException());
+        assertThrows(InvocationException.class, constructor::construct0);
+    }
+
+    static class NoArgsTestClass {
+
+    }
+
+    @Test
+    void Given_NoArgsConstructor_When_AsFunction_Then_ReturnsSupplierCallingConstructor() {
+
+        final Constructor<NoArgsTestClass> constructor = reflectConstructor(NoArgsTestClass.class);
+
+        @SuppressWarnings("unchecked")
+        final Supplier<NoArgsTestClass> supplier = constructor.asFunction(Supplier.class);
+
+        assertEquals(NoArgsTestClass.class, supplier.get().getClass());
+    }
+
+    @Test
+    void Given_Constructor_When_AsFunction_Then_ReturnsFunctionCallingConstructor() {
+
+        final Constructor<StringValueClass> constructor = reflectConstructor(StringValueClass.class);
+
+        @SuppressWarnings("unchecked")
+        final Function<String, StringValueClass> function = constructor.asFunction(Function.class);
+
+        assertEquals("some argument", function.apply("some argument").argument);
+    }
+
+    @Test
+    void Given_AbstractClassConstructor_When_AsFunction_Then_Throws() {
+
+        final Constructor<TestAbstractClass> constructor = reflectConstructor(TestAbstractClass.class);
+
+        assertThrows(IllegalStateException.class, () -> constructor.asFunction(Supplier.class));
     }
 
     static class ParametersTestClass {
@@ -4,11 +4,17 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SuppressWarnings({"unused", "FieldMayBeFinal"})
 class FieldTest {
@@ -130,6 +136,229 @@ class FieldTest {
         assertThrows(NullPointerException.class, () -> field.set(null, "new value"));
     }
 
+    @Test
+    void Given_PrimitiveField_When_SetAndGet_Then_SetsAndReturnsValue() {
+
+        class TestClass {
+
+            private int field = 1;
+        }
+        final Field<TestClass, Integer> field = reflectField(TestClass.class, "field");
+        final TestClass instance = new TestClass();
+
+        field.set(instance, 2);
+
+        assertEquals(2, instance.field);
+        assertEquals(2, field.get(instance));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    void Given_Field_When_SetWithInvalidType_Then_Throws() {
+
+        class TestClass {
+
+            String field = "value";
+            int primitiveField;
+        }
+        final Field field = reflectField(TestClass.class, "field");
+        final Field primitiveField = reflectField(TestClass.class, "primitiveField");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> field.set(new TestClass(), new Object()));
+        assertThrows(IllegalArgumentException.class,
+                () -> primitiveField.set(new TestClass(), null));
+    }
+
+    @Test
+    void Given_PrimitiveFields_When_SetAndGetPrimitive_Then_SetsAndReturnsValue() {
+
+        class TestClass {
+
+            int intField;
+            long longField;
+            double doubleField;
+            boolean booleanField;
+        }
+        final Field<TestClass, Integer> intField = reflectField(TestClass.class, "intField");
+        final Field<TestClass, Long> longField = reflectField(TestClass.class, "longField");
+        final Field<TestClass, Double> doubleField = reflectField(TestClass.class, "doubleField");
+        final Field<TestClass, Boolean> booleanField = reflectField(TestClass.class, "booleanField");
+        final TestClass instance = new TestClass();
+
+        intField.setInt(instance, 1);
+        longField.setLong(instance, 2L);
+        doubleField.setDouble(instance, 3.0);
+        booleanField.setBoolean(instance, true);
+
+        assertEquals(1, instance.intField);
+        assertEquals(2L, instance.longField);
+        assertEquals(3.0, instance.doubleField);
+        assertTrue(instance.booleanField);
+        assertEquals(1, intField.getInt(instance));
+        assertEquals(2L, longField.getLong(instance));
+        assertEquals(3.0, doubleField.getDouble(instance));
+        assertTrue(booleanField.getBoolean(instance));
+    }
+
+    static class StaticPrimitiveFieldTestClass {
+
+        private static int field = 1;
+    }
+
+    @Test
+    void Given_StaticPrimitiveField_When_GetIntOnNull_Then_ReturnsValue() {
+
+        final Field<StaticPrimitiveFieldTestClass, Integer> field =
+                reflectField(StaticPrimitiveFieldTestClass.class, "field");
+
+        assertEquals(1, field.getInt(null));
+    }
+
+    @Test
+    void Given_PrimitiveField_When_GetOrSetPrimitiveOfOtherType_Then_Throws() {
+
+        class TestClass {
+
+            int field;
+        }
+        final Field<TestClass, Integer> field = reflectField(TestClass.class, "field");
+
+        assertThrows(ClassCastException.class, () -> field.getLong(new TestClass()));
+        assertThrows(ClassCastException.class, () -> field.setDouble(new TestClass(), 1.0));
+    }
+
+    @Test
+    void Given_FinalPrimitiveField_When_SetPrimitive_Then_Throws() {
+
+        class TestClass {
+
+            final int field = 1;
+        }
+        final Field<TestClass, Integer> field = reflectField(TestClass.class, "field");
+
+        assertThrows(IllegalStateException.class, () -> field.setInt(new TestClass(), 2));
+    }
+
+    @Test
+    void Given_Field_When_SetReleaseAndGetVolatile_Then_SetsAndReturnsValue() {
+
+        class TestClass {
+
+            String field = "value";
+        }
+        final Field<TestClass, String> field = reflectField(TestClass.class, "field");
+        final TestClass instance = new TestClass();
+
+        field.setRelease(instance, "new value");
+
+        assertEquals("new value", instance.field);
+        assertEquals("new value", field.getVolatile(instance));
+    }
+
+    @Test
+    void Given_Field_When_CompareAndSet_Then_SetsValueIfExpected() {
+
+        class TestClass {
+
+            String field = "value";
+        }
+        final Field<TestClass, String> field = reflectField(TestClass.class, "field");
+        final TestClass instance = new TestClass();
+
+        assertFalse(field.compareAndSet(instance, "other value", "new value"));
+        assertEquals("value", instance.field);
+        assertTrue(field.compareAndSet(instance, instance.field, "new value"));
+        assertEquals("new value", instance.field);
+    }
+
+    @Test
+    void Given_Field_When_GetAndSet_Then_ReturnsPreviousValue() {
+
+        class TestClass {
+
+            String field = "value";
+        }
+        final Field<TestClass, String> field = reflectField(TestClass.class, "field");
+        final TestClass instance = new TestClass();
+
+        assertEquals("value", field.getAndSet(instance, "new value"));
+        assertEquals("new value", instance.field);
+    }
+
+    @Test
+    void Given_NumericField_When_GetAndAdd_Then_AddsDelta() {
+
+        class TestClass {
+
+            int intField = 1;
+            long longField = 1L;
+            double doubleField = 1.0;
+        }
+        final Field<TestClass, Integer> intField = reflectField(TestClass.class, "intField");
+        final Field<TestClass, Long> longField = reflectField(TestClass.class, "longField");
+        final Field<TestClass, Double> doubleField = reflectField(TestClass.class, "doubleField");
+        final TestClass instance = new TestClass();
+
+        assertEquals(1, intField.getAndAdd(instance, 2));
+        assertEquals(3, intField.getAndAddInt(instance, 2));
+        assertEquals(1L, longField.getAndAddLong(instance, 2L));
+        assertEquals(1.0, doubleField.getAndAdd(instance, 2.0));
+
+        assertEquals(5, instance.intField);
+        assertEquals(3L, instance.longField);
+        assertEquals(3.0, instance.doubleField);
+    }
+
+    @Test
+    void Given_PrimitiveField_When_CompareAndSetPrimitive_Then_SetsValueIfExpected() {
+
+        class TestClass {
+
+            int intField = 1;
+            long longField = 1L;
+        }
+        final Field<TestClass, Integer> intField = reflectField(TestClass.class, "intField");
+        final Field<TestClass, Long> longField = reflectField(TestClass.class, "longField");
+        final TestClass instance = new TestClass();
+
+        assertFalse(intField.compareAndSetInt(instance, 2, 3));
+        assertTrue(intField.compareAndSetInt(instance, 1, 3));
+        assertTrue(intField.compareAndSet(instance, 3, 4));
+        assertTrue(longField.compareAndSetLong(instance, 1L, 3L));
+
+        assertEquals(4, instance.intField);
+        assertEquals(3L, instance.longField);
+    }
+
+    @Test
+    void Given_NonNumericField_When_GetAndAdd_Then_Throws() {
+
+        class TestClass {
+
+            String field = "value";
+            int intField = 1;
+        }
+        final Field<TestClass, String> field = reflectField(TestClass.class, "field");
+        final Field<TestClass, Integer> intField = reflectField(TestClass.class, "intField");
+
+        assertThrows(ClassCastException.class, () -> field.getAndAdd(new TestClass(), "value"));
+        assertThrows(ClassCastException.class, () -> intField.getAndAddLong(new TestClass(), 1L));
+    }
+
+    @Test
+    void Given_FinalField_When_CompareAndSet_Then_Throws() {
+
+        class TestClass {
+
+            final String field = "value";
+        }
+        final Field<TestClass, String> field = reflectField(TestClass.class, "field");
+
+        assertThrows(IllegalStateException.class,
+                () -> field.compareAndSet(new TestClass(), "value", "new value"));
+    }
+
     static class StaticFieldTestClass {
 
         private static String field = "value";
@@ -203,6 +432,26 @@ class FieldTest {
         assertEquals(Set.of(Modifier.PROTECTED, Modifier.TRANSIENT), protectedFieldModifiers);
     }
 
+    @Test
+    void Given_Field_When_GetModifierBits_Then_ReturnsModifierBits() {
+
+        final Field<ModifiersTestClass, String> volatileField =
+                reflectField(ModifiersTestClass.class, "volatileField");
+        final Field<ModifiersTestClass, String> finalField =
+                reflectField(ModifiersTestClass.class, "finalField");
+
+        assertEquals(java.lang.reflect.Modifier.PUBLIC |
+                        java.lang.reflect.Modifier.STATIC |
+                        java.lang.reflect.Modifier.VOLATILE,
+                volatileField.getModifierBits());
+        assertTrue(volatileField.isPublic());
+        assertTrue(volatileField.isStatic());
+        assertFalse(volatileField.isFinal());
+        assertTrue(finalField.isPrivate());
+        assertTrue(finalField.isFinal());
+        assertFalse(finalField.isStatic());
+    }
+
     @Test
     void Given_Field_When_GetDeclarationType_Then_ReturnsDeclaringType() {
 
@@ -244,11 +493,23 @@ class FieldTest {
 
         final ParameterizedType<?> type = field.getType();
 
-        /*
-         can't get type argument <String> because of type eraser (well technically we can, but it
-         requires a lot of casting and messy code).
-         */
-        assertEquals(ParameterizedType.of(List.class), type);
+        assertEquals(ParameterizedType.listOf(String.class), type);
+    }
+
+    @Test
+    void Given_FieldWithNestedTypeArguments_When_GetType_Then_ReturnsFullType() {
+
+        class TestClass {
+
+            Map<String, List<Integer>> field;
+        }
+        final Field<TestClass, ?> field = reflectField(TestClass.class, "field");
+
+        final ParameterizedType<?> type = field.getType();
+
+        assertEquals(ParameterizedType.of(Map.class,
+                ParameterizedType.of(String.class),
+                ParameterizedType.listOf(Integer.class)), type);
     }
 
     @Test
@@ -264,4 +525,44 @@ class FieldTest {
 
         assertEquals(String.class, type);
     }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface TestAnnotation {
+
+        String value();
+    }
+
+    @Test
+    void Given_AnnotatedField_When_GetAnnotations_Then_ReturnsAnnotations() {
+
+        class TestClass {
+
+            @TestAnnotation("value")
+            String field;
+        }
+        final Field<TestClass, String> field = reflectField(TestClass.class, "field");
+
+        final AnnotationValues annotations = field.getAnnotations();
+
+        assertEquals(AnnotationValues.builder()
+                .value(AnnotationElement.value(TestAnnotation.class), "value")
+                .build(), annotations);
+    }
+
+    @Test
+    void Given_AnnotatedField_When_GetRawAnnotation_Then_ReturnsAnnotation() {
+
+        class TestClass {
+
+            @TestAnnotation("value")
+            String field;
+        }
+        final Field<TestClass, String> field = reflectField(TestClass.class, "field");
+
+        final TestAnnotation annotation = field.getRawAnnotation(TestAnnotation.class);
+        final List<Annotation> annotations = field.getRawAnnotations();
+
+        assertEquals("value", annotation.value());
+        assertEquals(List.of(annotation), annotations);
+    }
 }
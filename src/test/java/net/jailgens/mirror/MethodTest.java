@@ -5,16 +5,24 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SuppressWarnings({"unused", "InstantiationOfUtilityClass"})
 class MethodTest {
@@ -313,6 +321,37 @@ class MethodTest {
         assertThrows(IllegalArgumentException.class, () -> method.invoke(new TestClass()));
     }
 
+    @Test
+    void Given_PrivatePrimitiveMethod_When_Invoked_Then_InvokesMethod() {
+
+        class TestClass {
+
+            private int method(final int a, final int b) {
+
+                return a + b;
+            }
+        }
+        final Method<TestClass, Integer> method = reflectMethod(TestClass.class, "method");
+
+        final int returnValue = method.invoke(new TestClass(), 1, 2);
+
+        assertEquals(3, returnValue);
+    }
+
+    @Test
+    void Given_PrimitiveMethod_When_InvokedWithNull_Then_Throws() {
+
+        class TestClass {
+
+            void method(final int arg) {
+
+            }
+        }
+        final Method<TestClass, Void> method = reflectMethod(TestClass.class, "method");
+
+        assertThrows(ClassCastException.class, () -> method.invoke(new TestClass(), (Object) null));
+    }
+
     @Test
     void Given_ThrowingMethod_When_Invoked_Then_Throws() {
 
@@ -344,6 +383,343 @@ class MethodTest {
         assertThrows(NullPointerException.class, () -> method.invoke(null));
     }
 
+    @Test
+    void Given_InstanceMethods_When_InvokedWithFixedArity_Then_InvokesMethods() {
+
+        class TestClass {
+
+            String method0() {
+
+                return "0";
+            }
+
+            String method1(final String a) {
+
+                return a;
+            }
+
+            String method2(final String a, final String b) {
+
+                return a + b;
+            }
+
+            int method3(final int a, final int b, final int c) {
+
+                return a + b + c;
+            }
+        }
+        final TestClass instance = new TestClass();
+
+        assertEquals("0", reflectMethod(TestClass.class, "method0").invoke0(instance));
+        assertEquals("a", reflectMethod(TestClass.class, "method1").invoke1(instance, "a"));
+        assertEquals("ab", reflectMethod(TestClass.class, "method2").invoke2(instance, "a", "b"));
+        assertEquals(6, reflectMethod(TestClass.class, "method3").invoke3(instance, 1, 2, 3));
+    }
+
+    @Test
+    void Given_StaticMethod_When_InvokedWithFixedArity_Then_InvokesMethod() {
+
+        StaticMethodTestClass.arg = null;
+        final Method<StaticMethodTestClass, String> method = reflectMethod(StaticMethodTestClass.class, "method");
+
+        final String returnValue = method.invoke1(null, "arg");
+
+        assertEquals("return value", returnValue);
+        assertEquals("arg", StaticMethodTestClass.arg);
+    }
+
+    @Test
+    void Given_Method_When_InvokedWithWrongFixedArity_Then_Throws() {
+
+        class TestClass {
+
+            void method(final String arg) {
+
+            }
+        }
+        final Method<TestClass, Void> method = reflectMethod(TestClass.class, "method");
+
+        assertThrows(IllegalArgumentException.class, () -> method.invoke0(new TestClass()));
+        assertThrows(IllegalArgumentException.class, () -> method.invoke2(new TestClass(), "too", "many"));
+        assertThrows(NullPointerException.class, () -> method.invoke1(null, "arg"));
+        assertThrows(ClassCastException.class, () -> method.invoke1(new TestClass(), new Object()));
+    }
+
+    @Test
+    void Given_PrimitiveMethod_When_InvokedWithFixedArityAndNull_Then_Throws() {
+
+        class TestClass {
+
+            void method(final int arg) {
+
+            }
+        }
+        final Method<TestClass, Void> method = reflectMethod(TestClass.class, "method");
+
+        assertThrows(ClassCastException.class, () -> method.invoke1(new TestClass(), null));
+    }
+
+    @Test
+    void Given_ThrowingMethod_When_InvokedWithFixedArity_Then_Throws() {
+
+        final RuntimeException e = new RuntimeException();
+        class TestClass {
+
+            void method() {
+
+                throw e;
+            }
+        }
+        final Method<TestClass, Void> method = reflectMethod(TestClass.class, "method");
+
+        final InvocationException thrown = assertThrows(InvocationException.class, () -> method.invoke0(new TestClass()));
+        assertEquals(e, thrown.getTargetException());
+    }
+
+    @Test
+    void Given_PrimitiveMethods_When_InvokedWithPrimitiveReturn_Then_InvokesMethods() {
+
+        class TestClass {
+
+            private int intMethod(final int a) {
+
+                return a + 1;
+            }
+
+            long longMethod() {
+
+                return 2L;
+            }
+
+            double doubleMethod(final double a, final double b) {
+
+                return a * b;
+            }
+
+            boolean booleanMethod(final String a) {
+
+                return a.isEmpty();
+            }
+        }
+        final TestClass instance = new TestClass();
+        final Method<TestClass, Integer> intMethod = reflectMethod(TestClass.class, "intMethod");
+        final Method<TestClass, Long> longMethod = reflectMethod(TestClass.class, "longMethod");
+        final Method<TestClass, Double> doubleMethod = reflectMethod(TestClass.class, "doubleMethod");
+        final Method<TestClass, Boolean> booleanMethod = reflectMethod(TestClass.class, "booleanMethod");
+
+        assertEquals(2, intMethod.invokeInt(instance, 1));
+        assertEquals(2L, longMethod.invokeLong(instance));
+        assertEquals(6.0, doubleMethod.invokeDouble(instance, 2.0, 3.0));
+        assertTrue(booleanMethod.invokeBoolean(instance, ""));
+    }
+
+    @Test
+    void Given_StaticIntMethod_When_InvokeInt_Then_InvokesMethod() {
+
+        final Method<StaticPrimitiveMethodTestClass, Integer> method =
+                reflectMethod(StaticPrimitiveMethodTestClass.class, "add");
+
+        assertEquals(3, method.invokeInt(null, 1, 2));
+    }
+
+    @Test
+    void Given_PrimitiveMethods_When_InvokedWithFixedArity_Then_ReturnsUnboxedResults() {
+
+        class TestClass {
+
+            int intMethod(final int a, final int b, final int c) {
+
+                return a + b + c;
+            }
+
+            long longMethod(final long a, final long b, final long c) {
+
+                return a * b * c;
+            }
+
+            double doubleMethod(final double a) {
+
+                return -a;
+            }
+
+            boolean booleanMethod(final String a, final String b) {
+
+                return a.equals(b);
+            }
+        }
+        final TestClass instance = new TestClass();
+        final Method<TestClass, Integer> intMethod = reflectMethod(TestClass.class, "intMethod");
+        final Method<TestClass, Long> longMethod = reflectMethod(TestClass.class, "longMethod");
+        final Method<TestClass, Double> doubleMethod = reflectMethod(TestClass.class, "doubleMethod");
+        final Method<TestClass, Boolean> booleanMethod = reflectMethod(TestClass.class, "booleanMethod");
+
+        assertEquals(1000, intMethod.invokeInt3(instance, 100, 400, 500));
+        assertEquals(1000, intMethod.invokeInt(instance, new Object[] {100, 400, 500}));
+        assertEquals(24L, longMethod.invokeLong3(instance, 2L, 3L, 4L));
+        assertEquals(-1.5, doubleMethod.invokeDouble1(instance, 1.5));
+        assertTrue(booleanMethod.invokeBoolean2(instance, "a", "a"));
+        assertThrows(IllegalArgumentException.class, () -> intMethod.invokeInt2(instance, 1, 2));
+        assertThrows(ClassCastException.class, () -> intMethod.invokeInt3(instance, 1, 2, "3"));
+        assertThrows(ClassCastException.class, () -> doubleMethod.invokeInt1(instance, 1.5));
+    }
+
+    @Test
+    void Given_Method_When_InvokedWithWrongPrimitiveReturn_Then_Throws() {
+
+        class TestClass {
+
+            long method() {
+
+                return 0L;
+            }
+
+            Integer boxedMethod() {
+
+                return 0;
+            }
+        }
+        final Method<TestClass, Long> method = reflectMethod(TestClass.class, "method");
+        final Method<TestClass, Integer> boxedMethod = reflectMethod(TestClass.class, "boxedMethod");
+
+        assertThrows(ClassCastException.class, () -> method.invokeInt(new TestClass()));
+        assertThrows(ClassCastException.class, () -> method.invokeDouble(new TestClass()));
+        assertThrows(ClassCastException.class, () -> method.invokeDouble0(new TestClass()));
+        assertThrows(ClassCastException.class, () -> boxedMethod.invokeInt(new TestClass()));
+    }
+
+    @Test
+    void Given_ThrowingIntMethod_When_InvokeInt_Then_Throws() {
+
+        final RuntimeException e = new RuntimeException();
+        class TestClass {
+
+            int method() {
+
+                throw e;
+            }
+        }
+        final Method<TestClass, Integer> method = reflectMethod(TestClass.class, "method");
+
+        final InvocationException thrown = assertThrows(InvocationException.class, () -> method.invokeInt(new TestClass()));
+        assertEquals(e, thrown.getTargetException());
+        assertThrows(NullPointerException.class, () -> method.invokeInt(null));
+        assertThrows(IllegalArgumentException.class, () -> method.invokeInt(new TestClass(), "too many"));
+    }
+
+    @Test
+    void Given_InstanceMethod_When_AsFunction_Then_ReturnsFunctionInvokingMethod() {
+
+        class TestClass {
+
+            private String method(final String arg) {
+
+                return "return " + arg;
+            }
+        }
+        final Method<TestClass, String> method = reflectMethod(TestClass.class, "method");
+
+        @SuppressWarnings("unchecked")
+        final BiFunction<TestClass, String, String> function = method.asFunction(BiFunction.class);
+
+        assertEquals("return value", function.apply(new TestClass(), "value"));
+    }
+
+    static class StaticPrimitiveMethodTestClass {
+
+        static int add(final int a, final int b) {
+
+            return a + b;
+        }
+    }
+
+    @Test
+    void Given_StaticMethod_When_AsFunction_Then_ReturnsFunctionInvokingMethod() {
+
+        final Method<StaticPrimitiveMethodTestClass, Integer> method =
+                reflectMethod(StaticPrimitiveMethodTestClass.class, "add");
+
+        final IntBinaryOperator function = method.asFunction(IntBinaryOperator.class);
+
+        assertEquals(3, function.applyAsInt(1, 2));
+    }
+
+    static class OtherClassLoaderTestClass {
+
+        private static int add(final int a, final int b) {
+
+            return a + b;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void Given_MethodOfClassFromOtherClassLoader_When_AsFunction_Then_ReturnsFunctionInvokingMethod()
+            throws Exception {
+
+        final String name = OtherClassLoaderTestClass.class.getName();
+        final ClassLoader classLoader = new ClassLoader(MethodTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(final String className, final boolean resolve)
+                    throws ClassNotFoundException {
+
+                if (!className.equals(name)) {
+                    return super.loadClass(className, resolve);
+                }
+
+                try (final InputStream in = getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    final byte[] bytes = in.readAllBytes();
+                    return defineClass(className, bytes, 0, bytes.length);
+                } catch (final IOException e) {
+                    throw new ClassNotFoundException(className, e);
+                }
+            }
+        };
+        final Class<Object> otherClass = (Class<Object>) classLoader.loadClass(name);
+        assertNotSame(MethodTest.class.getModule(), otherClass.getModule());
+        final Method<Object, Integer> method = reflectMethod(otherClass, "add");
+
+        final IntBinaryOperator function = method.asFunction(IntBinaryOperator.class);
+
+        assertEquals(3, function.applyAsInt(1, 2));
+    }
+
+    @Test
+    void Given_ThrowingMethod_When_AsFunctionAndInvoked_Then_ThrowsTargetException() {
+
+        final RuntimeException e = new RuntimeException();
+        class TestClass {
+
+            String method() {
+
+                throw e;
+            }
+        }
+        final Method<TestClass, String> method = reflectMethod(TestClass.class, "method");
+        @SuppressWarnings("unchecked")
+        final java.util.function.Function<TestClass, String> function =
+                method.asFunction(java.util.function.Function.class);
+
+        final RuntimeException thrown = assertThrows(RuntimeException.class,
+                () -> function.apply(new TestClass()));
+        assertEquals(e, thrown);
+    }
+
+    @Test
+    void Given_Method_When_AsFunctionWithIncompatibleInterface_Then_Throws() {
+
+        class TestClass {
+
+            void method(final String arg) {
+
+            }
+        }
+        final Method<TestClass, Void> method = reflectMethod(TestClass.class, "method");
+
+        assertThrows(IllegalArgumentException.class, () -> method.asFunction(Supplier.class));
+        assertThrows(IllegalArgumentException.class, () -> method.asFunction(List.class));
+        assertThrows(IllegalArgumentException.class, () -> method.asFunction(String.class));
+    }
+
     @Test
     void Given_AnnotatedMethod_When_GetRawAnnotation_Then_ReturnsAnnotation() {
 
@@ -396,4 +772,24 @@ class MethodTest {
         assertEquals(TestAnnotation.class, annotations.get(0).annotationType());
         assertEquals("test value", ((TestAnnotation) annotations.get(0)).value());
     }
+
+    @Test
+    void Given_CachingMirror_When_ReflectMethodTwice_Then_ReturnsSameMethod() {
+
+        final Method<MethodTest, ?> method = reflectMethod(MethodTest.class, "setUp");
+
+        assertSame(method, reflectMethod(MethodTest.class, "setUp"));
+    }
+
+    @Test
+    void Given_MethodsReflectedByDifferentMirrors_When_Compare_Then_AreEqual() {
+
+        final Method<MethodTest, ?> method = reflectMethod(MethodTest.class, "setUp");
+        mirror = Mirror.builder().cache(false).build();
+        final Method<MethodTest, ?> equalMethod = reflectMethod(MethodTest.class, "setUp");
+
+        assertNotSame(method, equalMethod);
+        assertEquals(method, equalMethod);
+        assertEquals(method.hashCode(), equalMethod.hashCode());
+    }
 }
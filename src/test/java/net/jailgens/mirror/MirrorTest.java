@@ -6,7 +6,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.mock;
 
@@ -54,4 +67,442 @@ class MirrorTest {
         assertThrows(IllegalArgumentException.class,
                 () -> mirror.createProxy(Exception.class, Mockito.mock(InvocationHandler.class)));
     }
+
+    @Test
+    void Given_ReflectedType_When_Reflect_Then_ReturnsCachedTypeDefinition() {
+
+        assertSame(mirror.reflect(MirrorTest.class), mirror.reflect(MirrorTest.class));
+        assertSame(mirror.reflect(String.class), mirror.reflect(String.class));
+    }
+
+    @Test
+    void Given_ReflectedType_When_Invalidate_Then_ReflectsTypeAgain() {
+
+        final TypeDefinition<MirrorTest> typeDefinition = mirror.reflect(MirrorTest.class);
+
+        mirror.invalidate(MirrorTest.class.getClassLoader());
+
+        assertNotSame(typeDefinition, mirror.reflect(MirrorTest.class));
+    }
+
+    @Test
+    void Given_ReflectedTypes_When_InvalidateParentClassLoader_Then_ReflectsDescendantTypesAgain() {
+
+        final TypeDefinition<MirrorTest> typeDefinition = mirror.reflect(MirrorTest.class);
+        final TypeDefinition<String> bootstrapTypeDefinition = mirror.reflect(String.class);
+
+        mirror.invalidate(ClassLoader.getPlatformClassLoader());
+
+        assertNotSame(typeDefinition, mirror.reflect(MirrorTest.class));
+        assertSame(bootstrapTypeDefinition, mirror.reflect(String.class));
+    }
+
+    @Test
+    void Given_ReflectedType_When_InvalidateChildClassLoader_Then_KeepsTypeDefinition() {
+
+        final ClassLoader childClassLoader = new ClassLoader(MirrorTest.class.getClassLoader()) {
+        };
+        final TypeDefinition<MirrorTest> typeDefinition = mirror.reflect(MirrorTest.class);
+
+        mirror.invalidate(childClassLoader);
+
+        assertSame(typeDefinition, mirror.reflect(MirrorTest.class));
+    }
+
+    @Test
+    void Given_NullClassLoader_When_Invalidate_Then_Throws() {
+
+        assertThrows(NullPointerException.class, () -> mirror.invalidate(null));
+    }
+
+    static class FirstClass {
+
+    }
+
+    static class SecondClass {
+
+    }
+
+    static class ThirdClass {
+
+        int field;
+
+        void method() {
+
+        }
+    }
+
+    @Test
+    void Given_CachingMirror_When_Reflect_Then_RecordsStats() {
+
+        mirror.reflect(FirstClass.class);
+        mirror.reflect(FirstClass.class);
+        mirror.reflect(SecondClass.class);
+
+        final CacheStats stats = mirror.cacheStats();
+
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0, stats.getEvictionCount());
+        assertEquals(2, stats.getSize());
+        assertEquals(2, stats.getWeight());
+        assertEquals(1.0 / 3, stats.getHitRate());
+    }
+
+    @Test
+    void Given_MaximumSize_When_ReflectMoreTypes_Then_EvictsTypes() {
+
+        final Mirror mirror = Mirror.builder()
+                .classLoader(MirrorTest.class.getClassLoader())
+                .maximumSize(2)
+                .build();
+
+        final TypeDefinition<FirstClass> first = mirror.reflect(FirstClass.class);
+        mirror.reflect(SecondClass.class);
+        mirror.reflect(ThirdClass.class);
+
+        final CacheStats stats = mirror.cacheStats();
+        assertEquals(2, stats.getSize());
+        assertEquals(1, stats.getEvictionCount());
+        assertNotSame(first, mirror.reflect(FirstClass.class));
+    }
+
+    @Test
+    void Given_MaximumSize_When_ReflectedTypeIsUsed_Then_EvictsUnusedType() {
+
+        final Mirror mirror = Mirror.builder()
+                .classLoader(MirrorTest.class.getClassLoader())
+                .maximumSize(2)
+                .build();
+
+        final TypeDefinition<FirstClass> first = mirror.reflect(FirstClass.class);
+        final TypeDefinition<SecondClass> second = mirror.reflect(SecondClass.class);
+        mirror.reflect(FirstClass.class);
+        mirror.reflect(ThirdClass.class);
+
+        assertSame(first, mirror.reflect(FirstClass.class));
+        assertNotSame(second, mirror.reflect(SecondClass.class));
+    }
+
+    @Test
+    void Given_MaximumWeight_When_Reflect_Then_WeighsTypesByDeclaredMembers() {
+
+        final Mirror mirror = Mirror.builder()
+                .classLoader(MirrorTest.class.getClassLoader())
+                .maximumWeight(1000)
+                .build();
+
+        mirror.reflect(ThirdClass.class);
+
+        assertEquals(1 + ThirdClass.class.getDeclaredFields().length +
+                        ThirdClass.class.getDeclaredConstructors().length +
+                        ThirdClass.class.getDeclaredMethods().length,
+                mirror.cacheStats().getWeight());
+    }
+
+    @Test
+    void Given_MaximumWeight_When_ReflectTooHeavyType_Then_EvictsType() {
+
+        final Mirror mirror = Mirror.builder()
+                .classLoader(MirrorTest.class.getClassLoader())
+                .maximumWeight(1)
+                .build();
+
+        final TypeDefinition<ThirdClass> typeDefinition = mirror.reflect(ThirdClass.class);
+
+        final CacheStats stats = mirror.cacheStats();
+        assertEquals(0, stats.getSize());
+        assertEquals(0, stats.getWeight());
+        assertEquals(1, stats.getEvictionCount());
+        assertNotSame(typeDefinition, mirror.reflect(ThirdClass.class));
+    }
+
+    @Test
+    void Given_DiscardedMirror_When_CollectGarbage_Then_MirrorIsCollected() throws InterruptedException {
+
+        final WeakReference<Mirror> mirror = reflectWithDiscardedMirror();
+
+        for (int i = 0; i < 50 && mirror.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(mirror.get());
+    }
+
+    private static @NonNull WeakReference<Mirror> reflectWithDiscardedMirror() {
+
+        final Mirror mirror = Mirror.builder()
+                .classLoader(ClassLoader.getSystemClassLoader())
+                .build();
+
+        final TypeDefinition<IndexedClass> typeDefinition = mirror.reflect(IndexedClass.class);
+        typeDefinition.getMembers();
+        typeDefinition.getSuperType();
+        mirror.findAnnotated(Indexed.class);
+
+        return new WeakReference<>(mirror);
+    }
+
+    @Test
+    void Given_TypeOfUnrelatedClassLoader_When_CollectGarbage_Then_ClassLoaderIsCollected()
+            throws Exception {
+
+        final Mirror mirror = Mirror.builder()
+                .classLoader(new ClassLoader(MirrorTest.class.getClassLoader()) {})
+                .build();
+
+        final WeakReference<ClassLoader> classLoader = reflectWithDiscardedClassLoader(mirror);
+
+        for (int i = 0; i < 50 && classLoader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(classLoader.get());
+    }
+
+    private static @NonNull WeakReference<ClassLoader> reflectWithDiscardedClassLoader(
+            final @NonNull Mirror mirror) throws Exception {
+
+        final String name = FirstClass.class.getName();
+        final ClassLoader classLoader = new ClassLoader(MirrorTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(final String className, final boolean resolve)
+                    throws ClassNotFoundException {
+
+                if (!className.equals(name)) {
+                    return super.loadClass(className, resolve);
+                }
+
+                try (final InputStream in = getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    final byte[] bytes = in.readAllBytes();
+                    return defineClass(className, bytes, 0, bytes.length);
+                } catch (final IOException e) {
+                    throw new ClassNotFoundException(className, e);
+                }
+            }
+        };
+        final Class<?> otherClass = classLoader.loadClass(name);
+        assertNotSame(FirstClass.class, otherClass);
+
+        mirror.reflect(otherClass).getMembers();
+
+        return new WeakReference<>(classLoader);
+    }
+
+    @Test
+    void Given_NonCachingMirror_When_CacheStats_Then_ReturnsEmptyStats() {
+
+        final Mirror mirror = Mirror.builder().cache(false).build();
+
+        mirror.reflect(FirstClass.class);
+
+        assertEquals(0, mirror.cacheStats().getMissCount());
+        assertEquals(0, mirror.cacheStats().getSize());
+    }
+
+    @Test
+    void Given_NegativeMaximum_When_Build_Then_Throws() {
+
+        assertThrows(IllegalArgumentException.class, () -> Mirror.builder().maximumSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> Mirror.builder().maximumWeight(-1));
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Indexed {
+
+    }
+
+    @Indexed
+    static class IndexedClass {
+
+        @Indexed
+        int field;
+
+        int unindexedField;
+
+        @Indexed
+        void method() {
+
+        }
+    }
+
+    @Test
+    void Given_ReflectedTypes_When_FindAnnotated_Then_ReturnsAnnotatedTypesAndMembers() {
+
+        final TypeDefinition<IndexedClass> typeDefinition = mirror.reflect(IndexedClass.class);
+        mirror.reflect(FirstClass.class);
+
+        final Collection<Annotated> annotated = mirror.findAnnotated(Indexed.class);
+
+        assertEquals(3, annotated.size());
+        assertTrue(annotated.contains(typeDefinition));
+        assertTrue(annotated.contains(typeDefinition.getField("field").orElseThrow()));
+        assertTrue(annotated.contains(typeDefinition.getMethod("method").orElseThrow()));
+    }
+
+    static class IndexedParameterClass {
+
+        IndexedParameterClass(@Indexed final String parameter) {
+
+        }
+
+        void method(final String unindexedParameter, @Indexed final String parameter) {
+
+        }
+    }
+
+    @Test
+    void Given_AnnotatedParameters_When_FindAnnotated_Then_ReturnsParameters() {
+
+        final TypeDefinition<IndexedParameterClass> typeDefinition =
+                mirror.reflect(IndexedParameterClass.class);
+
+        final Collection<Annotated> annotated = mirror.findAnnotated(Indexed.class);
+
+        assertEquals(2, annotated.size());
+        assertTrue(annotated.contains(
+                typeDefinition.getConstructors().iterator().next().getParameters().get(0)));
+        assertTrue(annotated.contains(
+                typeDefinition.getMethod("method", String.class, String.class)
+                        .orElseThrow()
+                        .getParameters()
+                        .get(1)));
+    }
+
+    @Test
+    void Given_AnnotationTypeOfOtherClassLoaderWithSameName_When_FindAnnotated_Then_DoesNotReturnType()
+            throws Exception {
+
+        final Set<String> names = Set.of(Indexed.class.getName(), IndexedClass.class.getName());
+        final ClassLoader classLoader = new ClassLoader(MirrorTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(final String name, final boolean resolve)
+                    throws ClassNotFoundException {
+
+                if (!names.contains(name)) {
+                    return super.loadClass(name, resolve);
+                }
+
+                synchronized (getClassLoadingLock(name)) {
+                    final Class<?> loaded = findLoadedClass(name);
+
+                    if (loaded != null) {
+                        return loaded;
+                    }
+
+                    try (final InputStream in =
+                                 getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        final byte[] bytes = in.readAllBytes();
+                        return defineClass(name, bytes, 0, bytes.length);
+                    } catch (final IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+            }
+        };
+        final Class<?> otherIndexedClass = classLoader.loadClass(IndexedClass.class.getName());
+        assertNotSame(IndexedClass.class, otherIndexedClass);
+        final TypeDefinition<IndexedClass> typeDefinition = mirror.reflect(IndexedClass.class);
+        mirror.reflect(otherIndexedClass);
+
+        final Collection<Annotated> annotated = mirror.findAnnotated(Indexed.class);
+
+        assertEquals(3, annotated.size());
+        assertTrue(annotated.contains(typeDefinition));
+    }
+
+    @Test
+    void Given_NoAnnotatedTypes_When_FindAnnotated_Then_ReturnsEmptyCollection() {
+
+        mirror.reflect(FirstClass.class);
+
+        assertTrue(mirror.findAnnotated(Indexed.class).isEmpty());
+    }
+
+    @Test
+    void Given_InvalidatedType_When_FindAnnotated_Then_DoesNotReturnType() {
+
+        mirror.reflect(IndexedClass.class);
+        mirror.findAnnotated(Indexed.class);
+
+        mirror.invalidate(MirrorTest.class.getClassLoader());
+
+        assertTrue(mirror.findAnnotated(Indexed.class).isEmpty());
+    }
+
+    @Test
+    void Given_EvictingMirrorThatIsNeverQueried_When_ReflectTypes_Then_PendingTypesStayBounded() {
+
+        final MirrorImpl mirror = (MirrorImpl) Mirror.builder()
+                .classLoader(MirrorTest.class.getClassLoader())
+                .maximumSize(1)
+                .build();
+        final AnnotationIndex annotationIndex = mirror.annotationIndex();
+
+        for (int i = 0; i < 1_000; i++) {
+            // every reflection misses, and evicts the other type
+            mirror.reflect(FirstClass.class);
+            mirror.reflect(SecondClass.class);
+        }
+
+        // collected type definitions are only enqueued eventually, so a few may still be pending
+        for (int i = 0; i < 50 && annotationIndex.pendingCount() >= 100; i++) {
+            System.gc();
+            mirror.reflect(FirstClass.class);
+            mirror.reflect(SecondClass.class);
+        }
+
+        assertTrue(annotationIndex.pendingCount() < 100);
+    }
+
+    @Test
+    void Given_NonCachingMirror_When_FindAnnotated_Then_ReturnsEmptyCollection() {
+
+        final Mirror mirror = Mirror.builder().cache(false).build();
+
+        mirror.reflect(IndexedClass.class);
+
+        assertTrue(mirror.findAnnotated(Indexed.class).isEmpty());
+    }
+
+    @Test
+    void Given_MembersWithEqualAnnotations_When_GetAnnotations_Then_ReturnsSameInstance() {
+
+        final TypeDefinition<IndexedClass> typeDefinition = mirror.reflect(IndexedClass.class);
+
+        final AnnotationValues fieldAnnotations =
+                typeDefinition.getField("field").orElseThrow().getAnnotations();
+        final AnnotationValues methodAnnotations =
+                typeDefinition.getMethod("method").orElseThrow().getAnnotations();
+        final AnnotationValues unannotatedFieldAnnotations =
+                typeDefinition.getField("unindexedField").orElseThrow().getAnnotations();
+
+        assertSame(fieldAnnotations, methodAnnotations);
+        assertSame(fieldAnnotations, typeDefinition.getAnnotations());
+        assertSame(AnnotationValues.empty(), unannotatedFieldAnnotations);
+    }
+
+    @Test
+    void Given_MembersWithEqualAnnotations_When_CacheStats_Then_RecordsDeduplication() {
+
+        final TypeDefinition<IndexedClass> typeDefinition = mirror.reflect(IndexedClass.class);
+        typeDefinition.getAnnotations();
+        typeDefinition.getFields();
+        typeDefinition.getMethods();
+
+        final CacheStats stats = mirror.cacheStats();
+
+        // @Indexed is deduplicated twice, and unindexedField's annotations are empty
+        assertTrue(stats.getDeduplicatedAnnotationValuesCount() >= 3);
+        assertTrue(stats.getAnnotationValuesCount() > stats.getDeduplicatedAnnotationValuesCount());
+        assertTrue(stats.getAnnotationValuesDeduplicationRate() > 0.0);
+    }
+
+    @Test
+    void Given_NullAnnotationType_When_FindAnnotated_Then_Throws() {
+
+        assertThrows(NullPointerException.class, () -> mirror.findAnnotated(null));
+    }
 }
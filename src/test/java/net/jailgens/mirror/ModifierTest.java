@@ -2,8 +2,14 @@ package net.jailgens.mirror;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ModifierTest {
@@ -95,4 +101,38 @@ class ModifierTest {
         assertFalse(isTransient);
         assertFalse(isVolatile);
     }
+
+    @Test
+    void Given_ModifierBits_When_ModifiersAsSet_Then_ReturnsSharedSet() {
+
+        final int bits = java.lang.reflect.Modifier.PUBLIC | java.lang.reflect.Modifier.FINAL;
+
+        final Set<Modifier> modifiers = Modifier.modifiersAsSet(bits);
+
+        assertSame(modifiers, Modifier.modifiersAsSet(bits));
+        assertEquals(Set.of(Modifier.PUBLIC, Modifier.FINAL), modifiers);
+        assertEquals(modifiers, Set.of(Modifier.PUBLIC, Modifier.FINAL));
+        assertEquals(Set.of(Modifier.PUBLIC, Modifier.FINAL).hashCode(), modifiers.hashCode());
+        assertEquals(2, modifiers.size());
+        assertTrue(modifiers.contains(Modifier.FINAL));
+        assertFalse(modifiers.contains(Modifier.STATIC));
+        assertEquals(List.of(Modifier.PUBLIC, Modifier.FINAL), new ArrayList<>(modifiers));
+    }
+
+    @Test
+    void Given_NonModifierBits_When_ModifiersAsSet_Then_IgnoresBits() {
+
+        final Set<Modifier> modifiers = Modifier.modifiersAsSet(java.lang.reflect.Modifier.INTERFACE);
+
+        assertTrue(modifiers.isEmpty());
+    }
+
+    @Test
+    void Given_ModifierSet_When_Modify_Then_Throws() {
+
+        final Set<Modifier> modifiers = Modifier.modifiersAsSet(java.lang.reflect.Modifier.PUBLIC);
+
+        assertThrows(UnsupportedOperationException.class, () -> modifiers.add(Modifier.STATIC));
+        assertThrows(UnsupportedOperationException.class, () -> modifiers.remove(Modifier.PUBLIC));
+    }
 }
@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ParameterizedTypeTest {
@@ -154,4 +155,27 @@ class ParameterizedTypeTest {
         // not possible to fully implement
         assertEquals(0, annotations.size());
     }
+
+    @Test
+    void Given_EqualParameterizedTypes_When_Of_Then_ReturnsSameInstance() {
+
+        assertSame(ParameterizedType.of(String.class), ParameterizedType.of(String.class));
+        assertSame(ParameterizedType.mapOf(String.class, Integer.class),
+                ParameterizedType.mapOf(String.class, Integer.class));
+        assertSame(ParameterizedType.listOf(String.class),
+                ParameterizedType.of(List.class, ParameterizedType.of(String.class)));
+        assertSame(ParameterizedType.of(AnnotationValues.builder()
+                        .value(AnnotationElement.value(TestAnnotation.class), "test value")
+                        .build(), String.class),
+                ParameterizedType.of(AnnotationValues.builder()
+                        .value(AnnotationElement.value(TestAnnotation.class), "test value")
+                        .build(), String.class));
+    }
+
+    @Test
+    void Given_DifferentParameterizedTypes_When_Of_Then_ReturnsUnequalInstances() {
+
+        assertNotEquals(ParameterizedType.listOf(String.class), ParameterizedType.listOf(Integer.class));
+        assertNotEquals(ParameterizedType.listOf(String.class), ParameterizedType.setOf(String.class));
+    }
 }
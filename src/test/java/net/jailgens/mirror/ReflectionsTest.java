@@ -31,4 +31,45 @@ class ReflectionsTest {
                 .value(AnnotationElement.value(Target.class), new ElementType[]{ElementType.ANNOTATION_TYPE})
                 .build(), annotationValues);
     }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Inner {
+
+        int value();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Outer {
+
+        Inner inner();
+
+        Inner[] inners();
+
+        ElementType[] targets();
+    }
+
+    @Outer(inner = @Inner(1), inners = {@Inner(2), @Inner(3)}, targets = ElementType.FIELD)
+    static class NestedAnnotationClass {
+
+    }
+
+    @Test
+    void Given_NestedAnnotations_When_CreateAnnotationValues_Then_ConvertsNestedAnnotations() {
+
+        final AnnotationValues annotationValues =
+                Reflections.createAnnotationValues(NestedAnnotationClass.class);
+
+        assertEquals(AnnotationValues.builder()
+                .value(AnnotationElement.of(Outer.class, "inner"), inner(1))
+                .value(AnnotationElement.of(Outer.class, "inners"), inner(2), inner(3))
+                .value(AnnotationElement.of(Outer.class, "targets"), new ElementType[]{ElementType.FIELD})
+                .build(), annotationValues);
+    }
+
+    private static AnnotationValues inner(final int value) {
+
+        return AnnotationValues.builder()
+                .value(AnnotationElement.value(Inner.class), value)
+                .build();
+    }
 }
@@ -15,7 +15,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
 class TypeDefinitionTest {
 
@@ -145,6 +150,218 @@ class TypeDefinitionTest {
         assertTrue(members.containsAll(expectedMembers));
     }
 
+    @Test
+    void Given_TypeDefinition_When_GetMembersTwice_Then_ReturnsSameMembers() {
+
+        class TestClass {
+
+            String field;
+
+            void method() {
+
+            }
+        }
+        final TypeDefinition<TestClass> typeDefinition = mirror.reflect(TestClass.class);
+
+        assertSame(typeDefinition.getMembers(), typeDefinition.getMembers());
+        assertSame(typeDefinition.getFields(), typeDefinition.getFields());
+        assertSame(typeDefinition.getMethods(), typeDefinition.getMethods());
+        assertTrue(typeDefinition.getMembers().stream()
+                .anyMatch((member) -> member == typeDefinition.getFields().iterator().next()));
+    }
+
+    static class LookupTestClass implements Comparable<LookupTestClass> {
+
+        String field;
+
+        LookupTestClass() {
+
+        }
+
+        LookupTestClass(final String a, final int b) {
+
+        }
+
+        void method() {
+
+        }
+
+        void method(final String a) {
+
+        }
+
+        void method(final int a) {
+
+        }
+
+        @Override
+        public int compareTo(final LookupTestClass o) {
+
+            return 0;
+        }
+    }
+
+    @Test
+    void Given_TypeDefinition_When_GetField_Then_ReturnsField() {
+
+        final TypeDefinition<LookupTestClass> typeDefinition = mirror.reflect(LookupTestClass.class);
+
+        assertEquals("field", typeDefinition.getField("field").orElseThrow().getName());
+        assertTrue(typeDefinition.getField("missing").isEmpty());
+        assertThrows(NullPointerException.class, () -> typeDefinition.getField(null));
+    }
+
+    @Test
+    void Given_TypeDefinition_When_GetConstructor_Then_ReturnsConstructor() {
+
+        final TypeDefinition<LookupTestClass> typeDefinition = mirror.reflect(LookupTestClass.class);
+
+        assertEquals(0, typeDefinition.getConstructor().orElseThrow().getParameters().size());
+        assertEquals(2, typeDefinition.getConstructor(String.class, int.class)
+                .orElseThrow()
+                .getParameters()
+                .size());
+        assertTrue(typeDefinition.getConstructor(String.class).isEmpty());
+        assertTrue(typeDefinition.getConstructor(int.class, String.class).isEmpty());
+        assertTrue(typeDefinition.getConstructor(String.class, int.class, int.class).isEmpty());
+        assertThrows(NullPointerException.class,
+                () -> typeDefinition.getConstructor((Class<?>) null));
+    }
+
+    @Test
+    void Given_TypeDefinition_When_GetMethod_Then_ReturnsOverload() {
+
+        final TypeDefinition<LookupTestClass> typeDefinition = mirror.reflect(LookupTestClass.class);
+
+        final Method<LookupTestClass, ?> method = typeDefinition.getMethod("method").orElseThrow();
+        final Method<LookupTestClass, ?> stringMethod =
+                typeDefinition.getMethod("method", String.class).orElseThrow();
+        final Method<LookupTestClass, ?> intMethod =
+                typeDefinition.getMethod("method", int.class).orElseThrow();
+
+        assertEquals(List.of(), method.getParameters());
+        assertEquals(String.class, stringMethod.getParameters().get(0).getRawType());
+        assertEquals(int.class, intMethod.getParameters().get(0).getRawType());
+        assertTrue(typeDefinition.getMethods().contains(method));
+        assertTrue(typeDefinition.getMethod("method", long.class).isEmpty());
+        assertTrue(typeDefinition.getMethod("missing").isEmpty());
+        assertThrows(NullPointerException.class, () -> typeDefinition.getMethod(null));
+    }
+
+    static class CovariantBaseClass {
+
+        Object get() {
+
+            return null;
+        }
+    }
+
+    static class CovariantTestClass extends CovariantBaseClass {
+
+        @Override
+        String get() {
+
+            return null;
+        }
+    }
+
+    @Test
+    void Given_TypeDefinitionWithBridgeMethod_When_GetMethod_Then_ReturnsBridgedMethod() {
+
+        final TypeDefinition<CovariantTestClass> typeDefinition = mirror.reflect(CovariantTestClass.class);
+
+        final Method<CovariantTestClass, ?> method = typeDefinition.getMethod("get").orElseThrow();
+
+        assertEquals(2, typeDefinition.getMethods().stream()
+                .filter((m) -> m.getName().equals("get"))
+                .count());
+        assertEquals(String.class, method.getRawType());
+        assertFalse(method.isBridge());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void Given_TypeDefinitionWithBridgeMethod_When_DefaultGetMethod_Then_ReturnsBridgedMethod() {
+
+        final TypeDefinition<CovariantTestClass> typeDefinition = mirror.reflect(CovariantTestClass.class);
+        final TypeDefinition<CovariantTestClass> defaultTypeDefinition =
+                mock(TypeDefinition.class, CALLS_REAL_METHODS);
+        doReturn(typeDefinition.getMethods()).when(defaultTypeDefinition).getMethods();
+
+        final Method<CovariantTestClass, ?> method =
+                defaultTypeDefinition.getMethod("get").orElseThrow();
+
+        assertEquals(String.class, method.getRawType());
+        assertFalse(method.isBridge());
+        assertTrue(typeDefinition.getMethods().stream()
+                .filter((m) -> m.getName().equals("get"))
+                .anyMatch(Method::isBridge));
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Handler {
+
+    }
+
+    static class AnnotatedMembersTestClass {
+
+        @Handler
+        String field;
+
+        String unannotatedField;
+
+        @Handler
+        AnnotatedMembersTestClass(@Handler final String parameter) {
+
+        }
+
+        @Handler
+        void method(@Handler final String parameter, final String unannotatedParameter) {
+
+        }
+
+        @Deprecated
+        void unannotatedMethod() {
+
+        }
+    }
+
+    @Test
+    void Given_TypeDefinition_When_GetMembersAnnotatedWith_Then_ReturnsAnnotatedMembers() {
+
+        final TypeDefinition<AnnotatedMembersTestClass> typeDefinition =
+                mirror.reflect(AnnotatedMembersTestClass.class);
+
+        final Collection<Member<AnnotatedMembersTestClass>> members =
+                typeDefinition.getMembersAnnotatedWith(Handler.class);
+
+        assertEquals(3, members.size());
+        assertTrue(members.contains(typeDefinition.getField("field").orElseThrow()));
+        assertTrue(members.contains(typeDefinition.getConstructor(String.class).orElseThrow()));
+        assertTrue(members.contains(typeDefinition.getMethod("method", String.class, String.class).orElseThrow()));
+        assertTrue(typeDefinition.getMembersAnnotatedWith(TestAnnotation.class).isEmpty());
+    }
+
+    @Test
+    void Given_TypeDefinition_When_GetParametersAnnotatedWith_Then_ReturnsAnnotatedParameters() {
+
+        final TypeDefinition<AnnotatedMembersTestClass> typeDefinition =
+                mirror.reflect(AnnotatedMembersTestClass.class);
+
+        final Collection<Parameter<?>> parameters =
+                typeDefinition.getParametersAnnotatedWith(Handler.class);
+
+        assertEquals(2, parameters.size());
+        assertTrue(parameters.contains(typeDefinition.getConstructor(String.class)
+                .orElseThrow()
+                .getParameters()
+                .get(0)));
+        assertTrue(parameters.contains(typeDefinition.getMethod("method", String.class, String.class)
+                .orElseThrow()
+                .getParameters()
+                .get(0)));
+    }
+
     @Retention(RetentionPolicy.RUNTIME)
     @interface TestAnnotation {
 
@@ -275,4 +492,168 @@ class TypeDefinitionTest {
 
         assertNull(declaringType);
     }
+
+    interface Named {
+
+        default String name() {
+
+            return "named";
+        }
+    }
+
+    interface Titled extends Named {
+
+        @Override
+        default String name() {
+
+            return "titled";
+        }
+    }
+
+    static class Entity implements Named {
+
+        long id;
+
+        void save() {
+
+        }
+
+        private void validate() {
+
+        }
+    }
+
+    static class User extends Entity implements Titled {
+
+        long id;
+
+        @Override
+        void save() {
+
+        }
+
+        private void validate() {
+
+        }
+    }
+
+    @Test
+    void Given_TypeDefinition_When_GetSuperType_Then_ReturnsSuperclass() {
+
+        final TypeDefinition<User> typeDefinition = mirror.reflect(User.class);
+
+        assertEquals(mirror.reflect(Entity.class), typeDefinition.getSuperType());
+        assertEquals(mirror.reflect(Object.class), mirror.reflect(Entity.class).getSuperType());
+        assertNull(mirror.reflect(Object.class).getSuperType());
+        assertNull(mirror.reflect(Titled.class).getSuperType());
+    }
+
+    @Test
+    void Given_TypeDefinition_When_GetInterfaces_Then_ReturnsDirectInterfaces() {
+
+        assertEquals(List.of(mirror.reflect(Titled.class)),
+                mirror.reflect(User.class).getInterfaces());
+        assertEquals(List.of(mirror.reflect(Named.class)),
+                mirror.reflect(Titled.class).getInterfaces());
+    }
+
+    @Test
+    void Given_TypeDefinition_When_GetAllSuperTypes_Then_ReturnsLinearizedSuperTypes() {
+
+        final TypeDefinition<User> typeDefinition = mirror.reflect(User.class);
+
+        assertEquals(List.of(mirror.reflect(Entity.class),
+                        mirror.reflect(Object.class),
+                        mirror.reflect(Titled.class),
+                        mirror.reflect(Named.class)),
+                typeDefinition.getAllSuperTypes());
+        assertSame(typeDefinition.getAllSuperTypes(), typeDefinition.getAllSuperTypes());
+    }
+
+    @Test
+    void Given_CachingMirror_When_GetAllSuperTypes_Then_SharesSuperTypeDefinitions() {
+
+        final Mirror mirror = Mirror.builder().cache(true).build();
+
+        final TypeDefinition<User> typeDefinition = mirror.reflect(User.class);
+
+        assertSame(mirror.reflect(Entity.class), typeDefinition.getSuperType());
+        assertSame(mirror.reflect(Entity.class), typeDefinition.getAllSuperTypes().get(0));
+        assertSame(mirror.reflect(Named.class), typeDefinition.getAllSuperTypes().get(3));
+    }
+
+    @Test
+    void Given_TypeDefinition_When_GetAllFields_Then_ReturnsDeclaredAndInheritedFields() {
+
+        final Collection<Field<? super User, ?>> fields = mirror.reflect(User.class).getAllFields();
+
+        assertTrue(fields.contains(mirror.reflect(User.class).getField("id").orElseThrow()));
+        assertTrue(fields.contains(mirror.reflect(Entity.class).getField("id").orElseThrow()));
+    }
+
+    @Test
+    void Given_TypeDefinition_When_GetAllMethods_Then_ExcludesOverriddenMethods() {
+
+        final TypeDefinition<User> user = mirror.reflect(User.class);
+        final TypeDefinition<Entity> entity = mirror.reflect(Entity.class);
+
+        final Collection<Method<? super User, ?>> methods = user.getAllMethods();
+
+        assertTrue(methods.contains(user.getMethod("save").orElseThrow()));
+        assertFalse(methods.contains(entity.getMethod("save").orElseThrow()));
+        // private methods aren't overridden
+        assertTrue(methods.contains(user.getMethod("validate").orElseThrow()));
+        assertTrue(methods.contains(entity.getMethod("validate").orElseThrow()));
+        // the most specific default method is inherited
+        assertTrue(methods.contains(mirror.reflect(Titled.class).getMethod("name").orElseThrow()));
+        assertFalse(methods.contains(mirror.reflect(Named.class).getMethod("name").orElseThrow()));
+        // Object's methods are inherited
+        assertTrue(methods.contains(mirror.reflect(Object.class).getMethod("hashCode").orElseThrow()));
+    }
+
+    static class Box<T> {
+
+        T value;
+
+        T get() {
+
+            return value;
+        }
+
+        void set(final T value) {
+
+            this.value = value;
+        }
+    }
+
+    static class StringBox extends Box<String> {
+
+    }
+
+    @Test
+    void Given_SubclassOfGenericClass_When_GetAllFieldsAndMethods_Then_ResolvesInheritedTypes() {
+
+        final TypeDefinition<StringBox> stringBox = mirror.reflect(StringBox.class);
+
+        final Field<? super StringBox, ?> value = stringBox.getAllFields().stream()
+                .filter((field) -> field.getName().equals("value"))
+                .findAny()
+                .orElseThrow();
+        final Method<? super StringBox, ?> get = stringBox.getAllMethods().stream()
+                .filter((method) -> method.getName().equals("get"))
+                .findAny()
+                .orElseThrow();
+        final Method<? super StringBox, ?> set = stringBox.getAllMethods().stream()
+                .filter((method) -> method.getName().equals("set"))
+                .findAny()
+                .orElseThrow();
+
+        assertEquals(ParameterizedType.of(String.class), value.getType());
+        assertEquals(ParameterizedType.of(String.class), get.getType());
+        assertEquals(ParameterizedType.of(String.class), set.getParameters().get(0).getType());
+        assertEquals(mirror.reflect(Box.class), value.getDeclaringType());
+        // the declaring type still resolves its own type variables to their bounds
+        assertEquals(ParameterizedType.of(Object.class),
+                mirror.reflect(Box.class).getField("value").orElseThrow().getType());
+    }
 }
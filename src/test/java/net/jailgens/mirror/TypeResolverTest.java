@@ -0,0 +1,108 @@
+package net.jailgens.mirror;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TypeResolverTest {
+
+    static class Box<T> {
+
+        T value;
+
+        List<? extends T> values;
+
+        List<? super T> sinks;
+
+        T[] array;
+
+        List<String>[] lists;
+    }
+
+    static class StringBox extends Box<String> {
+
+    }
+
+    static class ComparableBox<T extends Comparable<T>> {
+
+        T value;
+    }
+
+    static class Repository<K, V> {
+
+        Map<K, List<V>> entries;
+    }
+
+    static class UserRepository extends Repository<Long, String> {
+
+    }
+
+    static Type genericType(final Class<?> cls, final String name) throws Exception {
+
+        return cls.getDeclaredField(name).getGenericType();
+    }
+
+    @Test
+    void Given_Class_When_Resolve_Then_ReturnsClass() {
+
+        assertEquals(ParameterizedType.of(String.class),
+                TypeResolver.resolve(Box.class, String.class));
+    }
+
+    @Test
+    void Given_UnboundTypeVariable_When_Resolve_Then_ReturnsBound() throws Exception {
+
+        assertEquals(ParameterizedType.of(Object.class),
+                TypeResolver.resolve(Box.class, genericType(Box.class, "value")));
+    }
+
+    @Test
+    void Given_RecursiveBound_When_Resolve_Then_ReturnsErasedBound() throws Exception {
+
+        assertEquals(ParameterizedType.of(Comparable.class, Comparable.class),
+                TypeResolver.resolve(ComparableBox.class, genericType(ComparableBox.class, "value")));
+    }
+
+    @Test
+    void Given_TypeVariableBoundBySubclass_When_Resolve_Then_ReturnsTypeArgument() throws Exception {
+
+        assertEquals(ParameterizedType.of(String.class),
+                TypeResolver.resolve(StringBox.class, genericType(Box.class, "value")));
+        assertEquals(ParameterizedType.of(Map.class,
+                        ParameterizedType.of(Long.class),
+                        ParameterizedType.listOf(String.class)),
+                TypeResolver.resolve(UserRepository.class, genericType(Repository.class, "entries")));
+    }
+
+    @Test
+    void Given_Wildcards_When_Resolve_Then_ReturnsUpperBounds() throws Exception {
+
+        assertEquals(ParameterizedType.listOf(String.class),
+                TypeResolver.resolve(StringBox.class, genericType(Box.class, "values")));
+        assertEquals(ParameterizedType.listOf(Object.class),
+                TypeResolver.resolve(StringBox.class, genericType(Box.class, "sinks")));
+    }
+
+    @Test
+    void Given_GenericArrayTypes_When_Resolve_Then_ReturnsArrayTypes() throws Exception {
+
+        assertEquals(ParameterizedType.of(String[].class),
+                TypeResolver.resolve(StringBox.class, genericType(Box.class, "array")));
+        assertEquals(ParameterizedType.of(List[].class, String.class),
+                TypeResolver.resolve(Box.class, genericType(Box.class, "lists")));
+    }
+
+    @Test
+    void Given_ResolvedType_When_Resolve_Then_ReturnsCachedType() throws Exception {
+
+        final Type type = genericType(Repository.class, "entries");
+
+        assertSame(TypeResolver.resolve(UserRepository.class, type),
+                TypeResolver.resolve(UserRepository.class, type));
+    }
+}